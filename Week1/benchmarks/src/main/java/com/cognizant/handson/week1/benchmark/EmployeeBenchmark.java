@@ -0,0 +1,71 @@
+package com.cognizant.handson.week1.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.cognizant.handson.week1.employees.Employee;
+import com.cognizant.handson.week1.employees.EmployeeManagementSystem;
+
+//Exercise 4: employee array, searches and delete-then-add of random employees
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmployeeBenchmark {
+    static final int LOOKUPS = 100;
+
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    private EmployeeManagementSystem employees;
+    private int[] ids;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(size);
+        employees = new EmployeeManagementSystem(size);
+        for (int i = 0; i < size; i++) {
+            employees.addEmployee(new Employee(i, "Employee " + i, "Engineer", 50000 + i));
+        }
+        ids = new int[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            ids[i] = random.nextInt(size);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public void searchEmployee(Blackhole blackhole) {
+        for (int id : ids) {
+            blackhole.consume(employees.searchEmployee(id));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public void deleteAndAddEmployee() {
+        for (int id : ids) {
+            Employee employee = employees.searchEmployee(id);
+            if (employee != null) {
+                employees.deleteEmployee(id);
+                employees.addEmployee(employee);
+            }
+        }
+    }
+}
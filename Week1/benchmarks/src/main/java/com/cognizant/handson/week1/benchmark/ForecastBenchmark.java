@@ -0,0 +1,53 @@
+package com.cognizant.handson.week1.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.cognizant.handson.week1.forecast.FinancialForecast;
+
+//Exercise 7: forecasting. size is the horizon in years and the length of the history;
+//recursion depth grows with the horizon, so sizes stop at 1000.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ForecastBenchmark {
+    @Param({"10", "100", "1000"})
+    public int size;
+
+    private FinancialForecast forecast = new FinancialForecast();
+    private double[] history;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(size);
+        history = new double[size];
+        for (int i = 0; i < size; i++) {
+            history[i] = 100 + i + random.nextDouble();
+        }
+    }
+
+    @Benchmark
+    public double calculateFutureValue() {
+        return forecast.calculateFutureValue(1000, 0.0001, size);
+    }
+
+    @Benchmark
+    public double forecastFutureValue() {
+        return forecast.forecastFutureValue(history, size);
+    }
+}
@@ -0,0 +1,82 @@
+package com.cognizant.handson.week1.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.cognizant.handson.week1.inventory.InventoryManagementSystem;
+import com.cognizant.handson.week1.inventory.Product;
+
+//Exercise 1: inventory CRUD, each invocation touches LOOKUPS random product ids
+//Run every benchmark in this package and keep the results as JSON:
+//  mvn -B package
+//  java -jar benchmarks/target/benchmarks.jar -rf json -rff results.json
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InventoryBenchmark {
+    static final int LOOKUPS = 1000;
+
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    private InventoryManagementSystem inventory;
+    private int[] ids;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(size);
+        inventory = new InventoryManagementSystem();
+        for (int i = 0; i < size; i++) {
+            inventory.addProduct(new Product(i, "Product " + i, i % 100, i * 0.5));
+        }
+        ids = new int[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            ids[i] = random.nextInt(size);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public void getProduct(Blackhole blackhole) {
+        for (int id : ids) {
+            blackhole.consume(inventory.getProduct(id).getQuantity());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public void updateProduct() {
+        for (int id : ids) {
+            inventory.updateProduct(new Product(id, "Product " + id, id % 50, id * 0.75));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public void deleteAndAddProduct() {
+        for (int id : ids) {
+            Product product = inventory.getProduct(id);
+            if (product != null) {
+                inventory.deleteProduct(id);
+                inventory.addProduct(product);
+            }
+        }
+    }
+}
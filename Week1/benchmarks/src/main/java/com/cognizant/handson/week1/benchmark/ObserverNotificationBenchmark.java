@@ -0,0 +1,47 @@
+package com.cognizant.handson.week1.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.cognizant.handson.week1.patterns.observer.StockMarket;
+
+//Observer notification cost per setStockPrice, size is the number of registered observers
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ObserverNotificationBenchmark {
+    @Param({"1", "10", "100"})
+    public int size;
+
+    private StockMarket stockMarket;
+    private double price;
+    private double seen;
+
+    @Setup
+    public void setUp() {
+        stockMarket = new StockMarket();
+        for (int i = 0; i < size; i++) {
+            stockMarket.registerObserver(stockPrice -> seen += stockPrice);
+        }
+    }
+
+    @Benchmark
+    public double setStockPrice() {
+        stockMarket.setStockPrice(price++);
+        return seen;
+    }
+}
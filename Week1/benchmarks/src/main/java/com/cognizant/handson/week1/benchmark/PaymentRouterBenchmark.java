@@ -0,0 +1,101 @@
+package com.cognizant.handson.week1.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.invoke.MethodHandles;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.cognizant.handson.week1.patterns.strategy.PaymentRouter;
+import com.cognizant.handson.week1.patterns.strategy.PaymentStrategy;
+
+//Per-call cost of router.pay versus grouped payAll with 1, 2 and 8 live strategies.
+//JMH forks a fresh JVM for every strategy count, so one count never pollutes the call-site
+//profile of the next. Call-site profiles are per class, so every strategy must be a class of its
+//own with its own payBatch, like CreditCardPayment; instead of pasting that class eight times,
+//Scaled is defined once per strategy as a hidden class.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PaymentRouterBenchmark {
+    static final int PAYMENTS = 1 << 20;
+
+    @Param({"1", "2", "8"})
+    public int strategies;
+
+    private PaymentRouter router;
+    private int[] ids;
+    private double[] amounts;
+
+    public static final class Scaled implements PaymentStrategy {
+        private final double factor;
+        private double total;
+
+        public Scaled(double factor) {
+            this.factor = factor;
+        }
+
+        public void pay(double amount) {
+            total += amount * factor;
+        }
+
+        public void payBatch(double[] amounts, int from, int to) {
+            for (int i = from; i < to; i++) {
+                pay(amounts[i]);
+            }
+        }
+    }
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException, IOException {
+        byte[] bytes;
+        try (InputStream in = Scaled.class.getResourceAsStream("PaymentRouterBenchmark$Scaled.class")) {
+            bytes = in.readAllBytes();
+        }
+        PaymentRouter.Builder builder = new PaymentRouter.Builder();
+        for (int i = 0; i < strategies; i++) {
+            Class<?> type = MethodHandles.lookup().defineHiddenClass(bytes, true).lookupClass();
+            double factor = (i % 2 == 0 ? 1 : -1) * (i / 2 + 1);
+            builder.register("strategy" + i, (PaymentStrategy) type.getConstructor(double.class).newInstance(factor));
+        }
+        router = builder.build();
+
+        Random random = new Random(42);
+        ids = new int[PAYMENTS];
+        amounts = new double[PAYMENTS];
+        for (int i = 0; i < PAYMENTS; i++) {
+            ids[i] = random.nextInt(strategies);
+            amounts[i] = random.nextInt(1000);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PAYMENTS)
+    public void pay() {
+        for (int i = 0; i < PAYMENTS; i++) {
+            router.pay(ids[i], amounts[i]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PAYMENTS)
+    public void payAll() {
+        router.payAll(ids, amounts);
+    }
+}
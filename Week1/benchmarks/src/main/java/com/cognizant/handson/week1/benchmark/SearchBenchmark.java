@@ -0,0 +1,94 @@
+package com.cognizant.handson.week1.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.cognizant.handson.week1.library.Book;
+import com.cognizant.handson.week1.library.BookSearch;
+import com.cognizant.handson.week1.search.CatalogProduct;
+import com.cognizant.handson.week1.search.ProductSearch;
+
+//Exercises 2 and 6: product and book search, arrays sorted by name for the binary searches
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SearchBenchmark {
+    static final int SEARCHES = 100;
+
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    private CatalogProduct[] catalog;
+    private String[] terms;
+    private ProductSearch productSearch = new ProductSearch();
+    private Book[] books;
+    private String[] titles;
+    private BookSearch bookSearch = new BookSearch();
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(size);
+        catalog = new CatalogProduct[size];
+        books = new Book[size];
+        for (int i = 0; i < size; i++) {
+            catalog[i] = new CatalogProduct(i, String.format("product-%08d", i), "category " + i % 10);
+            books[i] = new Book(i, String.format("title-%08d", i), "Author " + i);
+        }
+        terms = new String[SEARCHES];
+        titles = new String[SEARCHES];
+        for (int i = 0; i < SEARCHES; i++) {
+            int id = random.nextInt(size);
+            terms[i] = String.format("product-%08d", id);
+            titles[i] = String.format("title-%08d", id);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SEARCHES)
+    public void productLinearSearch(Blackhole blackhole) {
+        for (String term : terms) {
+            blackhole.consume(productSearch.linearSearch(catalog, term));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SEARCHES)
+    public void productBinarySearch(Blackhole blackhole) {
+        for (String term : terms) {
+            blackhole.consume(productSearch.binarySearch(catalog, term));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SEARCHES)
+    public void bookLinearSearch(Blackhole blackhole) {
+        for (String title : titles) {
+            blackhole.consume(bookSearch.linearSearch(books, title));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SEARCHES)
+    public void bookBinarySearch(Blackhole blackhole) {
+        for (String title : titles) {
+            blackhole.consume(bookSearch.binarySearch(books, title));
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.cognizant.handson.week1.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.cognizant.handson.week1.sorting.Order;
+import com.cognizant.handson.week1.sorting.OrderSorter;
+
+//Exercise 3: order sorting, each invocation sorts a fresh copy of the same orders.
+//Bubble sort is quadratic, so it lives in its own state with smaller sizes.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SortingBenchmark {
+    private static final OrderSorter SORTER = new OrderSorter();
+
+    static Order[] orders(int size) {
+        Random random = new Random(size);
+        Order[] orders = new Order[size];
+        for (int i = 0; i < size; i++) {
+            orders[i] = new Order(i, "Customer " + i, random.nextDouble() * 1000);
+        }
+        return orders;
+    }
+
+    @State(Scope.Benchmark)
+    public static class Orders {
+        @Param({"1000", "10000", "100000"})
+        public int size;
+
+        Order[] orders;
+
+        @Setup
+        public void setUp() {
+            orders = orders(size);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class FewOrders {
+        @Param({"1000", "10000"})
+        public int size;
+
+        Order[] orders;
+
+        @Setup
+        public void setUp() {
+            orders = orders(size);
+        }
+    }
+
+    @Benchmark
+    public Order[] quickSort(Orders state) {
+        Order[] copy = state.orders.clone();
+        SORTER.quickSort(copy, 0, copy.length - 1);
+        return copy;
+    }
+
+    @Benchmark
+    public Order[] bubbleSort(FewOrders state) {
+        Order[] copy = state.orders.clone();
+        SORTER.bubbleSort(copy);
+        return copy;
+    }
+}
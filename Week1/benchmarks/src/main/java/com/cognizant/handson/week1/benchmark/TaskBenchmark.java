@@ -0,0 +1,70 @@
+package com.cognizant.handson.week1.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.cognizant.handson.week1.tasks.SinglyLinkedList;
+import com.cognizant.handson.week1.tasks.Task;
+
+//Exercise 5: task linked list. addTask walks to the tail, so filling a list is quadratic and
+//sizes stop at 10000.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskBenchmark {
+    static final int LOOKUPS = 100;
+
+    @Param({"1000", "10000"})
+    public int size;
+
+    private SinglyLinkedList tasks;
+    private int[] ids;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(size);
+        tasks = new SinglyLinkedList();
+        for (int i = 0; i < size; i++) {
+            tasks.addTask(new Task(i, "Task " + i, "OPEN"));
+        }
+        ids = new int[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            ids[i] = random.nextInt(size);
+        }
+    }
+
+    //Builds a whole list of size tasks per invocation
+    @Benchmark
+    public SinglyLinkedList addTasks() {
+        SinglyLinkedList list = new SinglyLinkedList();
+        for (int i = 0; i < size; i++) {
+            list.addTask(new Task(i, "Task " + i, "OPEN"));
+        }
+        return list;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public void searchTask(Blackhole blackhole) {
+        for (int id : ids) {
+            blackhole.consume(tasks.searchTask(id));
+        }
+    }
+}
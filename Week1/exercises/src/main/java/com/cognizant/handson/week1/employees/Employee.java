@@ -0,0 +1,23 @@
+package com.cognizant.handson.week1.employees;
+
+//EXERCISE 4: EMPLOYEE MANAGEMENT SYSTEM
+//CLASS EMPLOYEE
+public class Employee {
+    private int employeeId;
+    private String name;
+    private String position;
+    private double salary;
+
+    // Constructor and getters/setters
+    public Employee(int employeeId, String name, String position, double salary) {
+        this.employeeId = employeeId;
+        this.name = name;
+        this.position = position;
+        this.salary = salary;
+    }
+
+    public int getEmployeeId() { return employeeId; }
+    public String getName() { return name; }
+    public String getPosition() { return position; }
+    public double getSalary() { return salary; }
+}
@@ -0,0 +1,65 @@
+package com.cognizant.handson.week1.employees;
+
+import com.cognizant.handson.week1.metrics.Metrics;
+import com.cognizant.handson.week1.metrics.OperationMetrics;
+
+//Array Operations
+public class EmployeeManagementSystem {
+    private static final OperationMetrics SEARCH_METRICS = Metrics.operation("employees.searchEmployee");
+    private Employee[] employees;
+    private int size;
+
+    public EmployeeManagementSystem(int capacity) {
+        employees = new Employee[capacity];
+        size = 0;
+    }
+
+    public void addEmployee(Employee employee) {
+        if (size < employees.length) {
+            employees[size++] = employee;
+        } else {
+            System.out.println("Array is full.");
+        }
+    }
+
+    public Employee searchEmployee(int employeeId) {
+        long start = SEARCH_METRICS.start();
+        try {
+            for (int i = 0; i < size; i++) {
+                if (employees[i].getEmployeeId() == employeeId) {
+                    return employees[i];
+                }
+            }
+            return null; // Not found
+        } finally {
+            SEARCH_METRICS.stop(start);
+        }
+    }
+
+    public void traverseEmployees() {
+        for (int i = 0; i < size; i++) {
+            System.out.println(employees[i].getName());
+        }
+    }
+
+    public void deleteEmployee(int employeeId) {
+        int index = -1;
+        for (int i = 0; i < size; i++) {
+            if (employees[i].getEmployeeId() == employeeId) {
+                index = i;
+                break;
+            }
+        }
+        if (index != -1) {
+            for (int i = index; i < size - 1; i++) {
+                employees[i] = employees[i + 1];
+            }
+            size--;
+        }
+    }
+}
+
+//Add Operation Time Complexity: O(1) - Constant time if space is available.
+//Search Operation Time Complexity: O(n) - Linear search through the array.
+//Traverse Operation Time Complexity: O(n) - Linear time to visit each element.
+//Delete Operation Time Complexity: O(n) - Linear time to find and remove the element.
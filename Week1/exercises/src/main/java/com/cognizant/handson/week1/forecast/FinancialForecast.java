@@ -0,0 +1,32 @@
+package com.cognizant.handson.week1.forecast;
+
+//Exercise 7: Financial Forecasting
+//Create a method to calculate future value recursively
+public class FinancialForecast {
+    public double calculateFutureValue(double principal, double rate, int years) {
+        if (years <= 0) {
+            return principal;
+        }
+        return calculateFutureValue(principal * (1 + rate), rate, years - 1);
+    }
+
+    //Implement recursive forecasting
+    public double forecastFutureValue(double[] pastValues, int monthsAhead) {
+        // Assuming a simple growth rate based on average past growth
+        double growthRate = calculateAverageGrowth(pastValues);
+        return calculateFutureValue(pastValues[pastValues.length - 1], growthRate, monthsAhead);
+    }
+
+    private double calculateAverageGrowth(double[] values) {
+        double totalGrowth = 0;
+        for (int i = 1; i < values.length; i++) {
+            totalGrowth += (values[i] - values[i - 1]) / values[i - 1];
+        }
+        return totalGrowth / (values.length - 1);
+    }
+}
+
+//Analysis:
+
+//Time Complexity: O(n) - Where n is the number of years; each recursive call reduces the problem size by one.
+//Optimization: Use memoization or iterative solutions to avoid excessive computation and improve efficiency.
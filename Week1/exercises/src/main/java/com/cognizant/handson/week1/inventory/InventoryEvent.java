@@ -0,0 +1,30 @@
+package com.cognizant.handson.week1.inventory;
+
+public class InventoryEvent {
+    private final InventoryEventType type;
+    private final int productId;
+    private final int oldQuantity;
+    private final int newQuantity;
+    private final double oldPrice;
+    private final double newPrice;
+
+    InventoryEvent(InventoryEventType type, int productId, Integer oldQuantity, int newQuantity, Double oldPrice, double newPrice) {
+        this.type = type;
+        this.productId = productId;
+        this.oldQuantity = oldQuantity == null ? 0 : oldQuantity;
+        this.newQuantity = newQuantity;
+        this.oldPrice = oldPrice == null ? 0 : oldPrice;
+        this.newPrice = newPrice;
+    }
+
+    public InventoryEventType getType() { return type; }
+    public int getProductId() { return productId; }
+    public int getOldQuantity() { return oldQuantity; }
+    public int getNewQuantity() { return newQuantity; }
+    public double getOldPrice() { return oldPrice; }
+    public double getNewPrice() { return newPrice; }
+
+    public String toString() {
+        return type + " product=" + productId + " quantity=" + oldQuantity + "->" + newQuantity + " price=" + oldPrice + "->" + newPrice;
+    }
+}
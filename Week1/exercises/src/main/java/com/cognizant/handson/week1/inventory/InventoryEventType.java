@@ -0,0 +1,13 @@
+package com.cognizant.handson.week1.inventory;
+
+//Inventory Events
+//InventoryManagementSystem publishes a change event only when a product crosses its reorder
+//threshold, changes price or is deleted, so consumers no longer scan the catalog. Each subscriber
+//reads from its own bounded queue; when a queue is full the publishing update waits for the
+//consumer (back-pressure), so a consumer must not update the inventory from the same thread.
+public enum InventoryEventType {
+    LOW_STOCK,
+    RESTOCKED,
+    PRICE_CHANGED,
+    PRODUCT_DELETED
+}
@@ -0,0 +1,37 @@
+package com.cognizant.handson.week1.inventory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class InventoryEventsTest {
+    public static void main(String[] args) throws InterruptedException {
+        InventoryManagementSystem inventory = new InventoryManagementSystem();
+        for (int i = 0; i < 100000; i++) {
+            inventory.addProduct(new Product(i, "Product " + i, 50, 9.99));
+            inventory.setReorderThreshold(i, 10);
+        }
+        InventorySubscription subscription = inventory.subscribe(1024);
+        
+        inventory.updateProduct(new Product(42, "Product 42", 5, 9.99));
+        inventory.updateProduct(new Product(42, "Product 42", 4, 9.99));
+        inventory.updateProduct(new Product(7, "Product 7", 50, 12.49));
+        inventory.updateProduct(new Product(42, "Product 42", 40, 9.99));
+        inventory.updateProduct(new Product(99, "Product 99", 1, 9.99));
+        inventory.deleteProduct(7);
+        
+        List<InventoryEvent> events = new ArrayList<>();
+        subscription.drainTo(events, 100);
+        for (InventoryEvent event : events) {
+            System.out.println(event);
+        }
+        System.out.println("Low stock now: " + inventory.getLowStockProductIds());
+        
+        // an interrupted publisher drops the event instead of losing it silently
+        InventorySubscription full = inventory.subscribe(1);
+        inventory.updateProduct(new Product(99, "Product 99", 50, 9.99));
+        Thread.currentThread().interrupt();
+        inventory.updateProduct(new Product(42, "Product 42", 3, 9.99));
+        Thread.interrupted();
+        System.out.println("Dropped by the full subscription: " + full.getDropped());
+    }
+}
@@ -0,0 +1,137 @@
+package com.cognizant.handson.week1.inventory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.cognizant.handson.week1.metrics.Metrics;
+import com.cognizant.handson.week1.metrics.OperationMetrics;
+
+//Data Structure Used Hashmap
+//Single-threaded: one thread owns the inventory and all its indexes, so they are plain collections
+//and track() needs no locking. Events reach other threads only through each subscription's
+//BlockingQueue; ShardedInventory is the variant for concurrent writers.
+public class InventoryManagementSystem {
+    private static final OperationMetrics GET_METRICS = Metrics.operation("inventory.getProduct");
+    private HashMap<Integer, Product> inventory = new HashMap<>();
+
+    // Change tracking: last seen quantity/price per product, so changes are detected even when
+    // the caller mutated the Product in place before calling updateProduct. Only kept while
+    // someone is subscribed; the low-stock index is kept always.
+    private HashMap<Integer, Integer> knownQuantity = new HashMap<>();
+    private HashMap<Integer, Double> knownPrice = new HashMap<>();
+    private HashMap<Integer, Integer> reorderThresholds = new HashMap<>();
+    private Set<Integer> lowStock = new HashSet<>();
+    private List<InventorySubscription> subscriptions = new ArrayList<>();
+
+    // Method to add a product
+    public void addProduct(Product product) {
+        inventory.put(product.getProductId(), product);
+        track(product);
+    }
+
+    // Method to update a product
+    public void updateProduct(Product product) {
+        if (inventory.containsKey(product.getProductId())) {
+            inventory.put(product.getProductId(), product);
+            track(product);
+        } else {
+            System.out.println("Product not found.");
+        }
+    }
+
+    // Method to delete a product
+    public void deleteProduct(int productId) {
+        if (inventory.containsKey(productId)) {
+            inventory.remove(productId);
+            reorderThresholds.remove(productId);
+            lowStock.remove(productId);
+            Integer quantity = knownQuantity.remove(productId);
+            Double price = knownPrice.remove(productId);
+            if (!subscriptions.isEmpty()) {
+                publish(new InventoryEvent(InventoryEventType.PRODUCT_DELETED, productId, quantity, 0, price, 0));
+            }
+        } else {
+            System.out.println("Product not found.");
+        }
+    }
+
+    // Reorder threshold: the product counts as low on stock while quantity is below it
+    public void setReorderThreshold(int productId, int threshold) {
+        reorderThresholds.put(productId, threshold);
+        Product product = inventory.get(productId);
+        if (product != null) {
+            track(product);
+        }
+    }
+
+    // Snapshot of the products currently below their threshold; later changes do not show up in it
+    public Set<Integer> getLowStockProductIds() {
+        return new HashSet<>(lowStock);
+    }
+
+    public InventorySubscription subscribe(int capacity) {
+        InventorySubscription subscription = new InventorySubscription(capacity);
+        if (subscriptions.isEmpty()) {
+            // start tracking from the current state so the first change is reported with its old value
+            for (Product product : inventory.values()) {
+                knownQuantity.put(product.getProductId(), product.getQuantity());
+                knownPrice.put(product.getProductId(), product.getPrice());
+            }
+        }
+        subscriptions.add(subscription);
+        return subscription;
+    }
+
+    public void unsubscribe(InventorySubscription subscription) {
+        subscriptions.remove(subscription);
+        if (subscriptions.isEmpty()) {
+            knownQuantity.clear();
+            knownPrice.clear();
+        }
+    }
+
+    private void track(Product product) {
+        int productId = product.getProductId();
+        Integer threshold = reorderThresholds.get(productId);
+        boolean low = threshold != null && product.getQuantity() < threshold;
+        boolean crossed = low ? lowStock.add(productId) : lowStock.remove(productId);
+        if (subscriptions.isEmpty()) {
+            return;
+        }
+        Integer oldQuantity = knownQuantity.put(productId, product.getQuantity());
+        Double oldPrice = knownPrice.put(productId, product.getPrice());
+        if (crossed) {
+            InventoryEventType type = low ? InventoryEventType.LOW_STOCK : InventoryEventType.RESTOCKED;
+            publish(new InventoryEvent(type, productId, oldQuantity, product.getQuantity(), oldPrice, product.getPrice()));
+        }
+        if (oldPrice != null && oldPrice != product.getPrice()) {
+            publish(new InventoryEvent(InventoryEventType.PRICE_CHANGED, productId, oldQuantity, product.getQuantity(), oldPrice, product.getPrice()));
+        }
+    }
+
+    private void publish(InventoryEvent event) {
+        for (InventorySubscription subscription : subscriptions) {
+            subscription.publish(event);
+        }
+    }
+
+    // Method to retrieve a product
+    public Product getProduct(int productId) {
+        long start = GET_METRICS.start();
+        try {
+            return inventory.get(productId);
+        } finally {
+            GET_METRICS.stop(start);
+        }
+    }
+}
+
+//Time Complexity Analysis:
+
+//Add Operation: O(1) - Inserting a product into a HashMap is done in constant time on average.
+//Update Operation: O(1) - Updating a product in a HashMap is also done in constant time on average.
+//Delete Operation: O(1) - Deleting a product from a HashMap is performed in constant time on average.
+//Search Operation: O(1) - Retrieving a product from a HashMap is done in constant time on average.
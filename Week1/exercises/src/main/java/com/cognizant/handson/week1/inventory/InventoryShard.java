@@ -0,0 +1,25 @@
+package com.cognizant.handson.week1.inventory;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+//Products are kept per bucket so moving a bucket copies only that bucket's entries
+class InventoryShard {
+    final int shardId;
+    final ConcurrentHashMap<Integer, ConcurrentHashMap<Integer, Product>> buckets = new ConcurrentHashMap<>();
+
+    InventoryShard(int shardId) {
+        this.shardId = shardId;
+    }
+
+    ConcurrentHashMap<Integer, Product> bucket(int b) {
+        return buckets.computeIfAbsent(b, key -> new ConcurrentHashMap<>());
+    }
+
+    int size() {
+        int size = 0;
+        for (ConcurrentHashMap<Integer, Product> products : buckets.values()) {
+            size += products.size();
+        }
+        return size;
+    }
+}
@@ -0,0 +1,43 @@
+package com.cognizant.handson.week1.inventory;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class InventorySubscription {
+    private final BlockingQueue<InventoryEvent> queue;
+    private final AtomicLong dropped = new AtomicLong();
+
+    InventorySubscription(int capacity) {
+        queue = new ArrayBlockingQueue<>(capacity);
+    }
+
+    //Waits only when the queue is full; an update interrupted while waiting for space drops the
+    //event and keeps the interrupt
+    void publish(InventoryEvent event) {
+        if (queue.offer(event)) {
+            return;
+        }
+        try {
+            queue.put(event);
+        } catch (InterruptedException e) {
+            dropped.incrementAndGet();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    public InventoryEvent poll(long timeout, TimeUnit unit) throws InterruptedException {
+        return queue.poll(timeout, unit);
+    }
+
+    //Takes up to max events that are already waiting, without blocking
+    public int drainTo(List<InventoryEvent> events, int max) {
+        return queue.drainTo(events, max);
+    }
+}
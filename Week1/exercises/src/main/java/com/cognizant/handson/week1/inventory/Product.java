@@ -0,0 +1,32 @@
+package com.cognizant.handson.week1.inventory;
+
+//EXERCISE 1:
+//Inventory Management System Setup
+//Define the Product Class:
+public class Product {
+    private int productId;
+    private String productName;
+    private int quantity;
+    private double price;
+
+    // Constructor
+    public Product(int productId, String productName, int quantity, double price) {
+        this.productId = productId;
+        this.productName = productName;
+        this.quantity = quantity;
+        this.price = price;
+    }
+
+    // Getters and Setters
+    public int getProductId() { return productId; }
+    public void setProductId(int productId) { this.productId = productId; }
+    
+    public String getProductName() { return productName; }
+    public void setProductName(String productName) { this.productName = productName; }
+    
+    public int getQuantity() { return quantity; }
+    public void setQuantity(int quantity) { this.quantity = quantity; }
+    
+    public double getPrice() { return price; }
+    public void setPrice(double price) { this.price = price; }
+}
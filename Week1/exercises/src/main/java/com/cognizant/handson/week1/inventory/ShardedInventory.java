@@ -0,0 +1,180 @@
+package com.cognizant.handson.week1.inventory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+//Sharded Inventory
+//Product ids hash into a fixed set of buckets and every bucket is owned by one shard. Adding a
+//shard moves whole buckets to it in parallel; only writes to the bucket being copied wait, the
+//rest of the inventory keeps taking writes, and point reads are lock-free. Scans and size reports
+//hold the read side of a rebalance lock and addShard the write side, so a scan never sees a bucket
+//halfway through a move and two rebalances never overlap. The price is that findBelowQuantity
+//blocks for the whole of addShard: scans stall until every bucket has moved, even though writes
+//carry on during the rebalance.
+public class ShardedInventory {
+    private static final int BUCKETS = 1024;
+
+    private final List<InventoryShard> shards = new CopyOnWriteArrayList<>();
+    private final AtomicReferenceArray<InventoryShard> owners = new AtomicReferenceArray<>(BUCKETS);
+    private final Object[] bucketLocks = new Object[BUCKETS];
+    private final ReentrantReadWriteLock rebalance = new ReentrantReadWriteLock();
+    private final ExecutorService executor;
+
+    public ShardedInventory(int shardCount, int parallelism) {
+        for (int i = 0; i < shardCount; i++) {
+            shards.add(new InventoryShard(i));
+        }
+        for (int b = 0; b < BUCKETS; b++) {
+            owners.set(b, shards.get(b % shardCount));
+            bucketLocks[b] = new Object();
+        }
+        executor = Executors.newFixedThreadPool(parallelism, task -> {
+            Thread thread = new Thread(task, "inventory-shard");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    static int bucket(int productId) {
+        int h = productId * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & (BUCKETS - 1);
+    }
+
+    public void addProduct(Product product) {
+        int b = bucket(product.getProductId());
+        synchronized (bucketLocks[b]) {
+            owners.get(b).bucket(b).put(product.getProductId(), product);
+        }
+    }
+
+    public void updateProduct(Product product) {
+        int b = bucket(product.getProductId());
+        synchronized (bucketLocks[b]) {
+            if (owners.get(b).bucket(b).replace(product.getProductId(), product) == null) {
+                System.out.println("Product not found.");
+            }
+        }
+    }
+
+    public void deleteProduct(int productId) {
+        int b = bucket(productId);
+        synchronized (bucketLocks[b]) {
+            if (owners.get(b).bucket(b).remove(productId) == null) {
+                System.out.println("Product not found.");
+            }
+        }
+    }
+
+    //Lock-free; retries if the bucket moved between reading its owner and reading the product
+    public Product getProduct(int productId) {
+        int b = bucket(productId);
+        while (true) {
+            InventoryShard owner = owners.get(b);
+            ConcurrentHashMap<Integer, Product> products = owner.buckets.get(b);
+            Product product = products == null ? null : products.get(productId);
+            if (owners.get(b) == owner) {
+                return product;
+            }
+        }
+    }
+
+    //Scatter-gather: every shard is scanned on the pool and the results are merged
+    public List<Product> findBelowQuantity(int quantity) {
+        rebalance.readLock().lock();
+        try {
+            List<CompletableFuture<List<Product>>> parts = new ArrayList<>();
+            for (InventoryShard shard : shards) {
+                parts.add(CompletableFuture.supplyAsync(() -> {
+                    List<Product> found = new ArrayList<>();
+                    for (ConcurrentHashMap<Integer, Product> products : shard.buckets.values()) {
+                        for (Product product : products.values()) {
+                            if (product.getQuantity() < quantity) {
+                                found.add(product);
+                            }
+                        }
+                    }
+                    return found;
+                }, executor));
+            }
+            List<Product> result = new ArrayList<>();
+            for (CompletableFuture<List<Product>> part : parts) {
+                result.addAll(part.join());
+            }
+            return result;
+        } finally {
+            rebalance.readLock().unlock();
+        }
+    }
+
+    //Adds a shard and moves buckets onto it until every shard owns an even share
+    public void addShard() {
+        rebalance.writeLock().lock();
+        try {
+            InventoryShard added = new InventoryShard(shards.size());
+            shards.add(added);
+            int target = BUCKETS / shards.size();
+            int[] owned = new int[shards.size()];
+            List<Integer> moving = new ArrayList<>();
+            for (int b = 0; b < BUCKETS; b++) {
+                int owner = owners.get(b).shardId;
+                if (++owned[owner] > target && moving.size() < target) {
+                    moving.add(b);
+                }
+            }
+            List<CompletableFuture<Void>> moves = new ArrayList<>();
+            for (int b : moving) {
+                moves.add(CompletableFuture.runAsync(() -> moveBucket(b, added), executor));
+            }
+            for (CompletableFuture<Void> move : moves) {
+                move.join();
+            }
+        } finally {
+            rebalance.writeLock().unlock();
+        }
+    }
+
+    private void moveBucket(int b, InventoryShard to) {
+        synchronized (bucketLocks[b]) {
+            InventoryShard from = owners.get(b);
+            ConcurrentHashMap<Integer, Product> products = from.buckets.get(b);
+            if (products != null) {
+                to.buckets.put(b, new ConcurrentHashMap<>(products));
+            }
+            owners.set(b, to);
+            from.buckets.remove(b);
+        }
+    }
+
+    public int size() {
+        rebalance.readLock().lock();
+        try {
+            int size = 0;
+            for (InventoryShard shard : shards) {
+                size += shard.size();
+            }
+            return size;
+        } finally {
+            rebalance.readLock().unlock();
+        }
+    }
+
+    public int[] shardSizes() {
+        rebalance.readLock().lock();
+        try {
+            int[] sizes = new int[shards.size()];
+            for (InventoryShard shard : shards) {
+                sizes[shard.shardId] = shard.size();
+            }
+            return sizes;
+        } finally {
+            rebalance.readLock().unlock();
+        }
+    }
+}
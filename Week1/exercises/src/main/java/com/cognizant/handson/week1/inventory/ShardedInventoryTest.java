@@ -0,0 +1,58 @@
+package com.cognizant.handson.week1.inventory;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ShardedInventoryTest {
+    public static void main(String[] args) throws InterruptedException {
+        ShardedInventory inventory = new ShardedInventory(4, 4);
+        for (int i = 0; i < 1_000_000; i++) {
+            inventory.addProduct(new Product(i, "Product " + i, i % 100, i * 0.5));
+        }
+        
+        // keep writing while two shards are added
+        Thread writer = new Thread(() -> {
+            for (int i = 1_000_000; i < 1_200_000; i++) {
+                inventory.addProduct(new Product(i, "Product " + i, i % 100, i * 0.5));
+            }
+        });
+        writer.start();
+        inventory.addShard();
+        inventory.addShard();
+        writer.join();
+        
+        System.out.println("Products: " + inventory.size());
+        System.out.println("Shard sizes: " + java.util.Arrays.toString(inventory.shardSizes()));
+        System.out.println("Below quantity 5: " + inventory.findBelowQuantity(5).size());
+        System.out.println("Product 1199999: " + inventory.getProduct(1199999).getProductName());
+        
+        // with no writes running, every scan taken while shards are added must see every product once
+        int expected = inventory.size();
+        AtomicInteger scans = new AtomicInteger();
+        AtomicInteger inconsistent = new AtomicInteger();
+        Thread scanner = new Thread(() -> {
+            while (!Thread.currentThread().isInterrupted()) {
+                if (inventory.findBelowQuantity(Integer.MAX_VALUE).size() != expected) {
+                    inconsistent.incrementAndGet();
+                }
+                scans.incrementAndGet();
+            }
+        });
+        scanner.start();
+        while (scans.get() == 0) {
+            Thread.sleep(1);
+        }
+        // two rebalances at once run one after the other
+        Thread adder = new Thread(inventory::addShard);
+        adder.start();
+        inventory.addShard();
+        adder.join();
+        int after = scans.get();
+        while (scans.get() < after + 2) {
+            Thread.sleep(1);
+        }
+        scanner.interrupt();
+        scanner.join();
+        System.out.println("Scans during addShard: " + scans.get() + ", inconsistent: " + inconsistent.get());
+        System.out.println("Shard sizes: " + java.util.Arrays.toString(inventory.shardSizes()));
+    }
+}
@@ -0,0 +1,18 @@
+package com.cognizant.handson.week1.library;
+
+//Exercise 6: Library Management System
+//class Book
+public class Book {
+    private int bookId;
+    private String title;
+    private String author;
+
+    // Constructor and getters/setters
+    public Book(int bookId, String title, String author) {
+        this.bookId = bookId;
+        this.title = title;
+        this.author = author;
+    }
+
+    public String getTitle() { return title; }
+}
@@ -0,0 +1,33 @@
+package com.cognizant.handson.week1.library;
+
+//linear search
+public class BookSearch {
+    public Book linearSearch(Book[] books, String title) {
+        for (Book book : books) {
+            if (book.getTitle().equals(title)) {
+                return book;
+            }
+        }
+        return null; // Not found
+    }
+        //binary search
+    public Book binarySearch(Book[] books, String title) {
+        int left = 0, right = books.length - 1;
+        while (left <= right) {
+            int mid = left + (right - left) / 2;
+            if (books[mid].getTitle().compareTo(title) == 0) {
+                return books[mid];
+            } else if (books[mid].getTitle().compareTo(title) < 0) {
+                left = mid + 1;
+            } else {
+                right = mid - 1;
+            }
+        }
+        return null; // Not found
+    }
+}
+
+//Analysis:
+
+//Linear Search Time Complexity: O(n) - Requires scanning through each element.
+//Binary Search Time Complexity: O(log n) - More efficient for sorted arrays.
@@ -0,0 +1,26 @@
+package com.cognizant.handson.week1.metrics;
+
+import com.sun.net.httpserver.HttpServer;
+
+//Cost of one start/stop pair; run with and without -Dmetrics.enabled=true
+public class InstrumentationOverheadTest {
+    public static void main(String[] args) throws Exception {
+        OperationMetrics operation = Metrics.operation("overhead.probe");
+        int iterations = 10_000_000;
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < 10; round++) {
+            long begin = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                operation.stop(operation.start());
+            }
+            best = Math.min(best, System.nanoTime() - begin);
+        }
+        System.out.printf("metrics.enabled=%s: %.2f ns per start/stop%n", Metrics.ENABLED, (double) best / iterations);
+        if (Metrics.ENABLED) {
+            HttpServer server = Metrics.startServer(0);
+            System.out.println("Serving http://127.0.0.1:" + server.getAddress().getPort() + "/metrics.json");
+            System.out.print(Metrics.toText());
+            server.stop(0);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.cognizant.handson.week1.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+//Log-linear buckets as in HdrHistogram: each power of two is split into 8 sub-buckets, so any
+//recorded value is reported within 12.5% and recording is a shift plus one atomic increment.
+//The sample count is the sum of the buckets, so it is not tracked separately.
+public final class LatencyHistogram {
+    private static final int SUB_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(64 * SUB_BUCKETS);
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts.getAndIncrement(index(value));
+        sum.add(value);
+        max.accumulateAndGet(value, Math::max);
+    }
+
+    static int index(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        return (exponent - SUB_BITS + 1) * SUB_BUCKETS + (int) ((value >>> (exponent - SUB_BITS)) & (SUB_BUCKETS - 1));
+    }
+
+    static long lowerBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int exponent = index / SUB_BUCKETS + SUB_BITS - 1;
+        return (long) (SUB_BUCKETS + index % SUB_BUCKETS) << (exponent - SUB_BITS);
+    }
+
+    public long percentile(double fraction) {
+        long count = getCount();
+        if (count == 0) {
+            return 0;
+        }
+        long target = (long) Math.ceil(fraction * count);
+        long seen = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            seen += counts.get(i);
+            if (seen >= target) {
+                return lowerBound(i);
+            }
+        }
+        return max.get();
+    }
+
+    public long getCount() {
+        long count = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            count += counts.get(i);
+        }
+        return count;
+    }
+
+    public long getMax() { return max.get(); }
+
+    public long getMean() {
+        long count = getCount();
+        return count == 0 ? 0 : sum.sum() / count;
+    }
+}
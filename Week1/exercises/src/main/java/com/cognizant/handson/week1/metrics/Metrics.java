@@ -0,0 +1,85 @@
+package com.cognizant.handson.week1.metrics;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.sun.net.httpserver.HttpServer;
+
+//Hot-path Metrics
+//Counters and latency histograms for the operations in the Week1 exercises.
+//Run with -Dmetrics.enabled=true to record; when the flag is off the checks below are constant
+//false, the JIT removes them and instrumented methods cost nothing extra.
+//When on, every call is counted but only one in metrics.timeEvery (default 64, picked at random)
+//reads the clock and lands in the latency histogram, so percentiles come from that sample.
+//Optional span sampling: -Dmetrics.sampleEvery=N also records about one in N timed calls, picked at
+//random, as a JFR event spanning the call.
+public final class Metrics {
+    static final boolean ENABLED = Boolean.getBoolean("metrics.enabled");
+    static final int TIME_EVERY = Integer.getInteger("metrics.timeEvery", 64);
+    static final int SAMPLE_EVERY = Integer.getInteger("metrics.sampleEvery", 0);
+
+    private static final Map<String, OperationMetrics> OPERATIONS = new ConcurrentHashMap<>();
+
+    private Metrics() {
+    }
+
+    //Call once per operation and keep the result in a static final field
+    public static OperationMetrics operation(String name) {
+        return OPERATIONS.computeIfAbsent(name, OperationMetrics::new);
+    }
+
+    public static String toText() {
+        StringBuilder out = new StringBuilder();
+        for (OperationMetrics operation : new TreeMap<>(OPERATIONS).values()) {
+            LatencyHistogram histogram = operation.getHistogram();
+            out.append(operation.getName())
+               .append(" calls=").append(operation.getCalls())
+               .append(" p50_ns=").append(histogram.percentile(0.50))
+               .append(" p99_ns=").append(histogram.percentile(0.99))
+               .append(" max_ns=").append(histogram.getMax())
+               .append('\n');
+        }
+        return out.toString();
+    }
+
+    public static String toJson() {
+        StringBuilder out = new StringBuilder("{");
+        for (OperationMetrics operation : new TreeMap<>(OPERATIONS).values()) {
+            LatencyHistogram histogram = operation.getHistogram();
+            if (out.length() > 1) {
+                out.append(',');
+            }
+            out.append('"').append(operation.getName()).append("\": {")
+               .append("\"calls\": ").append(operation.getCalls())
+               .append(", \"timed\": ").append(histogram.getCount())
+               .append(", \"meanNs\": ").append(histogram.getMean())
+               .append(", \"p50Ns\": ").append(histogram.percentile(0.50))
+               .append(", \"p90Ns\": ").append(histogram.percentile(0.90))
+               .append(", \"p99Ns\": ").append(histogram.percentile(0.99))
+               .append(", \"maxNs\": ").append(histogram.getMax())
+               .append('}');
+        }
+        return out.append('}').toString();
+    }
+
+    //Serves /metrics (text) and /metrics.json on localhost only
+    public static HttpServer startServer(int port) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 0);
+        server.createContext("/metrics", exchange -> {
+            boolean json = exchange.getRequestURI().getPath().endsWith(".json");
+            byte[] body = (json ? toJson() : toText()).getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", json ? "application/json" : "text/plain");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        return server;
+    }
+}
@@ -0,0 +1,56 @@
+package com.cognizant.handson.week1.metrics;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class OperationMetrics {
+    //Returned by start() for calls that are counted but not timed
+    static final long UNTIMED = Long.MIN_VALUE;
+
+    private final String name;
+    private final LongAdder calls = new LongAdder();
+    private final LatencyHistogram histogram = new LatencyHistogram();
+    //Span begun by start() on this thread, committed by the matching stop()
+    private final ThreadLocal<OperationSpanEvent> span = new ThreadLocal<>();
+
+    OperationMetrics(String name) {
+        this.name = name;
+    }
+
+    public long start() {
+        if (!Metrics.ENABLED) {
+            return UNTIMED;
+        }
+        calls.increment();
+        if (Metrics.TIME_EVERY > 1 && ThreadLocalRandom.current().nextInt(Metrics.TIME_EVERY) != 0) {
+            return UNTIMED;
+        }
+        if (Metrics.SAMPLE_EVERY > 0 && ThreadLocalRandom.current().nextInt(Metrics.SAMPLE_EVERY) == 0) {
+            OperationSpanEvent event = new OperationSpanEvent();
+            if (event.isEnabled()) {
+                event.operation = name;
+                event.begin();
+                span.set(event);
+            }
+        }
+        return System.nanoTime();
+    }
+
+    public void stop(long start) {
+        if (!Metrics.ENABLED || start == UNTIMED) {
+            return;
+        }
+        histogram.record(System.nanoTime() - start);
+        if (Metrics.SAMPLE_EVERY > 0) {
+            OperationSpanEvent event = span.get();
+            if (event != null) {
+                span.remove();
+                event.commit();
+            }
+        }
+    }
+
+    public String getName() { return name; }
+    public long getCalls() { return calls.sum(); }
+    public LatencyHistogram getHistogram() { return histogram; }
+}
@@ -0,0 +1,9 @@
+package com.cognizant.handson.week1.metrics;
+
+@jdk.jfr.Name("week1.OperationSpan")
+@jdk.jfr.Label("Operation Span")
+@jdk.jfr.Category("Week1")
+class OperationSpanEvent extends jdk.jfr.Event {
+    @jdk.jfr.Label("Operation")
+    String operation;
+}
@@ -0,0 +1,12 @@
+package com.cognizant.handson.week1.patterns.adapter;
+
+//Adapter Implementation
+public class AdapterPatternTest {
+    public static void main(String[] args) {
+        PaymentProcessor payPalProcessor = new PayPalAdapter(new PayPal());
+        payPalProcessor.processPayment(100.0);
+        
+        PaymentProcessor stripeProcessor = new StripeAdapter(new Stripe());
+        stripeProcessor.processPayment(200.0);
+    }
+}
@@ -0,0 +1,8 @@
+package com.cognizant.handson.week1.patterns.adapter;
+
+//Adaptee Classes
+public class PayPal {
+    public void makePayment(double amount) {
+        System.out.println("Processing PayPal payment of $" + amount);
+    }
+}
@@ -0,0 +1,23 @@
+package com.cognizant.handson.week1.patterns.adapter;
+
+import com.cognizant.handson.week1.metrics.Metrics;
+import com.cognizant.handson.week1.metrics.OperationMetrics;
+
+//Adapter Class
+public class PayPalAdapter implements PaymentProcessor {
+    private static final OperationMetrics METRICS = Metrics.operation("payment.paypal.processPayment");
+    private PayPal payPal;
+    
+    public PayPalAdapter(PayPal payPal) {
+        this.payPal = payPal;
+    }
+    
+    public void processPayment(double amount) {
+        long start = METRICS.start();
+        try {
+            payPal.makePayment(amount);
+        } finally {
+            METRICS.stop(start);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.cognizant.handson.week1.patterns.adapter;
+
+//Exercise 4: Implementing the Adapter Pattern
+//Target Interface
+public interface PaymentProcessor {
+    void processPayment(double amount);
+}
@@ -0,0 +1,7 @@
+package com.cognizant.handson.week1.patterns.adapter;
+
+public class Stripe {
+    public void charge(double amount) {
+        System.out.println("Processing Stripe payment of $" + amount);
+    }
+}
@@ -0,0 +1,22 @@
+package com.cognizant.handson.week1.patterns.adapter;
+
+import com.cognizant.handson.week1.metrics.Metrics;
+import com.cognizant.handson.week1.metrics.OperationMetrics;
+
+public class StripeAdapter implements PaymentProcessor {
+    private static final OperationMetrics METRICS = Metrics.operation("payment.stripe.processPayment");
+    private Stripe stripe;
+    
+    public StripeAdapter(Stripe stripe) {
+        this.stripe = stripe;
+    }
+    
+    public void processPayment(double amount) {
+        long start = METRICS.start();
+        try {
+            stripe.charge(amount);
+        } finally {
+            METRICS.stop(start);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.cognizant.handson.week1.patterns.builder;
+
+public class BuilderPatternTest {
+    public static void main(String[] args) {
+        Computer computer = new Computer.Builder()
+            .setCPU("Intel i7")
+            .setRAM("16GB")
+            .setStorage("512GB SSD")
+            .build();
+        
+        System.out.println("Computer built with Builder pattern.");
+    }
+}
@@ -0,0 +1,43 @@
+package com.cognizant.handson.week1.patterns.builder;
+
+//Exercise 3: Implementing the Builder Pattern
+//Product Class
+public class Computer {
+    private String CPU;
+    private String RAM;
+    private String storage;
+    
+    private Computer(Builder builder) {
+        this.CPU = builder.CPU;
+        this.RAM = builder.RAM;
+        this.storage = builder.storage;
+    }
+
+    public static class Builder {
+        private String CPU;
+        private String RAM;
+        private String storage;
+        
+        public Builder setCPU(String CPU) {
+            this.CPU = CPU;
+            return this;
+        }
+        
+        public Builder setRAM(String RAM) {
+            this.RAM = RAM;
+            return this;
+        }
+        
+        public Builder setStorage(String storage) {
+            this.storage = storage;
+            return this;
+        }
+        
+        public Computer build() {
+            return new Computer(this);
+        }
+    }
+}
+
+//Nested Builder class inside Computer.
+//Ensure Computer has a private constructor that takes Builder as a parameter.
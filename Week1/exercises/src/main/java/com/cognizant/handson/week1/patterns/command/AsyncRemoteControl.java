@@ -0,0 +1,138 @@
+package com.cognizant.handson.week1.patterns.command;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class AsyncRemoteControl implements Runnable {
+    private static final Command UNDO = () -> { };
+    private static final Command REDO = () -> { };
+    private static final Command STOP = () -> { };
+
+    private final BlockingQueue<Command> queue;
+    private final CommandLog log;
+    private final int maxBatch;
+    private final Thread executor;
+    private final AtomicLong executed = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    public AsyncRemoteControl(int queueCapacity, int maxBatch, int historySize) {
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.log = new CommandLog(historySize);
+        this.maxBatch = maxBatch;
+        this.executor = new Thread(this, "remote-control");
+        this.executor.setDaemon(true);
+        this.executor.start();
+    }
+
+    //Never waits; returns false and counts the command as rejected when the queue is full
+    public boolean submit(Command command) {
+        if (queue.offer(command)) {
+            return true;
+        }
+        rejected.incrementAndGet();
+        return false;
+    }
+
+    public boolean undo() {
+        return submit(UNDO);
+    }
+
+    public boolean redo() {
+        return submit(REDO);
+    }
+
+    public void close() throws InterruptedException {
+        queue.put(STOP);
+        executor.join();
+    }
+
+    public void run() {
+        List<Command> batch = new ArrayList<>(maxBatch);
+        List<Command> pending = new ArrayList<>(maxBatch);
+        try {
+            while (true) {
+                batch.add(queue.take());
+                queue.drainTo(batch, maxBatch - 1);
+                for (Command command : batch) {
+                    if (command == UNDO || command == REDO || command == STOP) {
+                        runPending(pending);
+                        if (command == STOP) {
+                            return;
+                        }
+                        Command target = command == UNDO ? log.undo() : log.redo();
+                        if (target != null) {
+                            if (command == UNDO) {
+                                target.undo();
+                            } else {
+                                target.execute();
+                            }
+                        }
+                    } else {
+                        pending.add(command);
+                    }
+                }
+                runPending(pending);
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    //A coalesced run executes as its last command and undoes as its first, so undo restores the
+    //state from before the run rather than from before its last command
+    private static final class CoalescedRun implements Command {
+        private final Command first;
+        private final Command last;
+
+        CoalescedRun(Command first, Command last) {
+            this.first = first;
+            this.last = last;
+        }
+
+        public void execute() {
+            last.execute();
+        }
+
+        public void undo() {
+            first.undo();
+        }
+    }
+
+    private void runPending(List<Command> pending) {
+        Map<Object, Integer> first = new HashMap<>();
+        Map<Object, Integer> last = new HashMap<>();
+        for (int i = 0; i < pending.size(); i++) {
+            if (pending.get(i) instanceof CoalescingCommand) {
+                first.putIfAbsent(((CoalescingCommand) pending.get(i)).target(), i);
+                last.put(((CoalescingCommand) pending.get(i)).target(), i);
+            }
+        }
+        for (int i = 0; i < pending.size(); i++) {
+            Command command = pending.get(i);
+            if (command instanceof CoalescingCommand && last.get(((CoalescingCommand) command).target()) != i) {
+                coalesced.incrementAndGet();
+                continue;
+            }
+            try {
+                command.execute();
+                int start = command instanceof CoalescingCommand ? first.get(((CoalescingCommand) command).target()) : i;
+                log.record(start == i ? command : new CoalescedRun(pending.get(start), command));
+                executed.incrementAndGet();
+            } catch (RuntimeException e) {
+                System.out.println("Command failed: " + e.getMessage());
+            }
+        }
+        pending.clear();
+    }
+
+    public long getExecuted() { return executed.get(); }
+    public long getCoalesced() { return coalesced.get(); }
+    public long getRejected() { return rejected.get(); }
+}
@@ -0,0 +1,30 @@
+package com.cognizant.handson.week1.patterns.command;
+
+public class AsyncRemoteControlTest {
+    public static void main(String[] args) throws InterruptedException {
+        Light livingRoomLight = new Light();
+        Command lightOn = new LightOnCommand(livingRoomLight);
+        Command lightOff = new LightOffCommand(livingRoomLight);
+        
+        AsyncRemoteControl remote = new AsyncRemoteControl(1 << 16, 1024, 128);
+        Thread[] controllers = new Thread[4];
+        for (int t = 0; t < controllers.length; t++) {
+            controllers[t] = new Thread(() -> {
+                for (int i = 0; i < 10000; i++) {
+                    remote.submit(i % 2 == 0 ? lightOn : lightOff);
+                }
+            });
+            controllers[t].start();
+        }
+        for (Thread controller : controllers) {
+            controller.join();
+        }
+        remote.undo();
+        remote.redo();
+        remote.close();
+        
+        System.out.println("Executed: " + remote.getExecuted());
+        System.out.println("Coalesced: " + remote.getCoalesced());
+        System.out.println("Rejected: " + remote.getRejected());
+    }
+}
@@ -0,0 +1,6 @@
+package com.cognizant.handson.week1.patterns.command;
+
+//Commands that only set a device's final state; of several in one batch, only the last matters
+public interface CoalescingCommand extends Command {
+    Object target();
+}
@@ -0,0 +1,9 @@
+package com.cognizant.handson.week1.patterns.command;
+
+//Exercise 9: Implementing the Command Pattern
+public interface Command {
+    void execute();
+    
+    default void undo() {
+    }
+}
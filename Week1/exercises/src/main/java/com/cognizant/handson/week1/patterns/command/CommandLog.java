@@ -0,0 +1,44 @@
+package com.cognizant.handson.week1.patterns.command;
+
+//Asynchronous Remote Control
+//Callers only enqueue; one executor thread drains the queue in batches, collapses repeated
+//commands for the same device and records what actually ran in a fixed-size undo log.
+//Undo/redo history in a ring; once full, the oldest entries are overwritten
+class CommandLog {
+    private final Command[] ring;
+    private int top;
+    private int undoable;
+    private int redoable;
+
+    public CommandLog(int capacity) {
+        ring = new Command[capacity];
+    }
+
+    public void record(Command command) {
+        ring[top] = command;
+        top = (top + 1) % ring.length;
+        undoable = Math.min(undoable + 1, ring.length);
+        redoable = 0;
+    }
+
+    public Command undo() {
+        if (undoable == 0) {
+            return null;
+        }
+        top = (top - 1 + ring.length) % ring.length;
+        undoable--;
+        redoable++;
+        return ring[top];
+    }
+
+    public Command redo() {
+        if (redoable == 0) {
+            return null;
+        }
+        Command command = ring[top];
+        top = (top + 1) % ring.length;
+        redoable--;
+        undoable++;
+        return command;
+    }
+}
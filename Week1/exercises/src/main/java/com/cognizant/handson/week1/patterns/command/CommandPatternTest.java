@@ -0,0 +1,17 @@
+package com.cognizant.handson.week1.patterns.command;
+
+public class CommandPatternTest {
+    public static void main(String[] args) {
+        Light livingRoomLight = new Light();
+        Command lightOn = new LightOnCommand(livingRoomLight);
+        Command lightOff = new LightOffCommand(livingRoomLight);
+        
+        RemoteControl remote = new RemoteControl();
+        
+        remote.setCommand(lightOn);
+        remote.pressButton();
+        
+        remote.setCommand(lightOff);
+        remote.pressButton();
+    }
+}
@@ -0,0 +1,11 @@
+package com.cognizant.handson.week1.patterns.command;
+
+public class Light {
+    public void on() {
+        System.out.println("Light is ON");
+    }
+    
+    public void off() {
+        System.out.println("Light is OFF");
+    }
+}
@@ -0,0 +1,21 @@
+package com.cognizant.handson.week1.patterns.command;
+
+public class LightOffCommand implements CoalescingCommand {
+    private Light light;
+    
+    public LightOffCommand(Light light) {
+        this.light = light;
+    }
+    
+    public void execute() {
+        light.off();
+    }
+    
+    public void undo() {
+        light.on();
+    }
+    
+    public Object target() {
+        return light;
+    }
+}
@@ -0,0 +1,21 @@
+package com.cognizant.handson.week1.patterns.command;
+
+public class LightOnCommand implements CoalescingCommand {
+    private Light light;
+    
+    public LightOnCommand(Light light) {
+        this.light = light;
+    }
+    
+    public void execute() {
+        light.on();
+    }
+    
+    public void undo() {
+        light.off();
+    }
+    
+    public Object target() {
+        return light;
+    }
+}
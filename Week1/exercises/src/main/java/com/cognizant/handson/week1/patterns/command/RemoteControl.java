@@ -0,0 +1,13 @@
+package com.cognizant.handson.week1.patterns.command;
+
+public class RemoteControl {
+    private Command command;
+    
+    public void setCommand(Command command) {
+        this.command = command;
+    }
+    
+    public void pressButton() {
+        command.execute();
+    }
+}
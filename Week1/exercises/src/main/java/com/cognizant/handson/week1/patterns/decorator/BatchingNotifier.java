@@ -0,0 +1,149 @@
+package com.cognizant.handson.week1.patterns.decorator;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+//Batching and deduplicating notifier
+//Identical messages inside a window are merged into one digest line with a count,
+//each flush sends a single digest to the wrapped channel, and a rate limiter caps channel calls.
+public class BatchingNotifier extends NotifierDecorator implements AutoCloseable {
+    //Counter value once a flush has taken the message; senders then start a new entry
+    private static final int RETIRED = Integer.MIN_VALUE;
+
+    private final RateLimiter limiter;
+    private final int maxBatch;
+    private final ScheduledExecutorService scheduler;
+    private final ConcurrentHashMap<String, AtomicInteger> pending = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<String> order = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger distinct = new AtomicInteger();
+    private final AtomicBoolean flushing = new AtomicBoolean();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final ScheduledFuture<?> flushTask;
+    //Occurrences per message already counted as deferred; only touched while flushing
+    private final HashMap<String, Integer> carried = new HashMap<>();
+
+    private final AtomicLong received = new AtomicLong();
+    private final AtomicLong merged = new AtomicLong();
+    private final AtomicLong deferred = new AtomicLong();
+    private final AtomicLong channelCalls = new AtomicLong();
+
+    //Flushes every windowMillis on the scheduler, or sooner once maxBatch distinct messages wait
+    public BatchingNotifier(Notifier channel, RateLimiter limiter, int maxBatch,
+                            ScheduledExecutorService scheduler, long windowMillis) {
+        super(channel);
+        this.limiter = limiter;
+        this.maxBatch = maxBatch;
+        this.scheduler = scheduler;
+        this.flushTask = scheduler.scheduleAtFixedRate(this::flush, windowMillis, windowMillis, TimeUnit.MILLISECONDS);
+    }
+
+    //Stops the periodic flush and sends whatever is still waiting
+    public void close() {
+        flushTask.cancel(false);
+        flush();
+    }
+
+    public void send(String message) {
+        received.incrementAndGet();
+        if (!add(message, 1)) {
+            merged.incrementAndGet();
+        } else if (distinct.get() >= maxBatch && flushRequested.compareAndSet(false, true)) {
+            //The channel call happens on the scheduler, never on the sender's thread
+            scheduler.execute(() -> {
+                flushRequested.set(false);
+                flush();
+            });
+        }
+    }
+
+    //Adds n occurrences of message to the window; returns true if it started a new entry
+    private boolean add(String message, int n) {
+        while (true) {
+            AtomicInteger count = pending.get(message);
+            if (count == null) {
+                AtomicInteger fresh = new AtomicInteger(n);
+                if (pending.putIfAbsent(message, fresh) == null) {
+                    order.offer(message);
+                    distinct.incrementAndGet();
+                    return true;
+                }
+                continue;
+            }
+            int current = count.get();
+            if (current == RETIRED) {
+                pending.remove(message, count);
+                continue;
+            }
+            if (count.compareAndSet(current, current + n)) {
+                return false;
+            }
+        }
+    }
+
+    //Drains the current window into one digest; concurrent callers skip instead of waiting.
+    //A digest refused by the rate limiter goes back into the window and is sent with a later one.
+    public void flush() {
+        if (!flushing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            List<String> messages = new ArrayList<>();
+            List<Integer> counts = new ArrayList<>();
+            List<Integer> counted = new ArrayList<>();
+            long total = 0;
+            String message;
+            while (messages.size() < maxBatch && (message = order.poll()) != null) {
+                distinct.decrementAndGet();
+                AtomicInteger count = pending.get(message);
+                int n = count.getAndSet(RETIRED);
+                pending.remove(message, count);
+                total += n;
+                messages.add(message);
+                counts.add(n);
+                Integer already = carried.remove(message);
+                counted.add(already == null ? 0 : already);
+            }
+            if (messages.isEmpty()) {
+                return;
+            }
+            if (!limiter.tryAcquire()) {
+                for (int i = 0; i < messages.size(); i++) {
+                    //Only occurrences refused for the first time count as deferred
+                    deferred.addAndGet(counts.get(i) - counted.get(i));
+                    carried.put(messages.get(i), counts.get(i));
+                    add(messages.get(i), counts.get(i));
+                }
+                return;
+            }
+            channelCalls.incrementAndGet();
+            if (messages.size() == 1 && counts.get(0) == 1) {
+                super.send(messages.get(0));
+                return;
+            }
+            StringBuilder digest = new StringBuilder("Digest of ").append(total).append(" messages:");
+            for (int i = 0; i < messages.size(); i++) {
+                digest.append('\n').append(messages.get(i));
+                if (counts.get(i) > 1) {
+                    digest.append(" (x").append(counts.get(i)).append(')');
+                }
+            }
+            super.send(digest.toString());
+        } finally {
+            flushing.set(false);
+        }
+    }
+
+    public long getReceived() { return received.get(); }
+    public long getMerged() { return merged.get(); }
+    public long getDeferred() { return deferred.get(); }
+    public long getChannelCalls() { return channelCalls.get(); }
+}
@@ -0,0 +1,35 @@
+package com.cognizant.handson.week1.patterns.decorator;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+public class BatchingNotifierTest {
+    public static void main(String[] args) throws InterruptedException {
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "notifier-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        BatchingNotifier email = new BatchingNotifier(new EmailNotifier(), new RateLimiter(1, 1), 100, scheduler, 5000);
+
+        for (int i = 0; i < 10000; i++) {
+            email.send("Database connection lost");
+            email.send("Disk usage above 90%");
+        }
+        email.flush();
+
+        // Rate limited: this digest is deferred, not dropped, and goes out on the next flush.
+        // Refused twice, it still counts as one deferred message.
+        email.send("Replica lag above 30s");
+        email.flush();
+        email.flush();
+        Thread.sleep(1100);
+        email.flush();
+        email.close();
+
+        System.out.println("Received: " + email.getReceived());
+        System.out.println("Merged: " + email.getMerged());
+        System.out.println("Deferred: " + email.getDeferred());
+        System.out.println("Channel calls: " + email.getChannelCalls());
+    }
+}
@@ -0,0 +1,11 @@
+package com.cognizant.handson.week1.patterns.decorator;
+
+public class DecoratorPatternTest {
+    public static void main(String[] args) {
+        Notifier notifier = new EmailNotifier();
+        Notifier smsNotifier = new SMSNotifierDecorator(notifier);
+        Notifier slackNotifier = new SlackNotifierDecorator(smsNotifier);
+        
+        slackNotifier.send("Hello, this is a notification!");
+    }
+}
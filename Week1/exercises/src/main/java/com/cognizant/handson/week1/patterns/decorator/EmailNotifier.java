@@ -0,0 +1,7 @@
+package com.cognizant.handson.week1.patterns.decorator;
+
+public class EmailNotifier implements Notifier {
+    public void send(String message) {
+        System.out.println("Sending email: " + message);
+    }
+}
@@ -0,0 +1,6 @@
+package com.cognizant.handson.week1.patterns.decorator;
+
+//Exercise 5: Implementing the Decorator Pattern
+public interface Notifier {
+    void send(String message);
+}
@@ -0,0 +1,13 @@
+package com.cognizant.handson.week1.patterns.decorator;
+
+public abstract class NotifierDecorator implements Notifier {
+    protected Notifier wrapped;
+
+    public NotifierDecorator(Notifier wrapped) {
+        this.wrapped = wrapped;
+    }
+    
+    public void send(String message) {
+        wrapped.send(message);
+    }
+}
@@ -0,0 +1,30 @@
+package com.cognizant.handson.week1.patterns.decorator;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+//Token bucket kept as a single "theoretical arrival time" (GCRA), so acquiring is one CAS
+public class RateLimiter {
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final AtomicLong nextFree = new AtomicLong(System.nanoTime());
+
+    public RateLimiter(double permitsPerSecond, int burst) {
+        this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+        this.burstNanos = intervalNanos * Math.max(0, burst - 1);
+    }
+
+    public boolean tryAcquire() {
+        long now = System.nanoTime();
+        while (true) {
+            long tat = nextFree.get();
+            long start = Math.max(tat, now);
+            if (start - now > burstNanos) {
+                return false;
+            }
+            if (nextFree.compareAndSet(tat, start + intervalNanos)) {
+                return true;
+            }
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.cognizant.handson.week1.patterns.decorator;
+
+public class SMSNotifierDecorator extends NotifierDecorator {
+    public SMSNotifierDecorator(Notifier wrapped) {
+        super(wrapped);
+    }
+    
+    public void send(String message) {
+        super.send(message);
+        System.out.println("Sending SMS: " + message);
+    }
+}
@@ -0,0 +1,69 @@
+package com.cognizant.handson.week1.patterns.di;
+
+import com.cognizant.handson.week1.patterns.mvc.Student;
+import com.cognizant.handson.week1.patterns.mvc.StudentController;
+import com.cognizant.handson.week1.patterns.mvc.StudentView;
+import com.cognizant.handson.week1.patterns.strategy.CreditCardPayment;
+import com.cognizant.handson.week1.patterns.strategy.PayPalPayment;
+import com.cognizant.handson.week1.patterns.strategy.PaymentContext;
+import com.cognizant.handson.week1.patterns.strategy.PaymentRouter;
+
+public class AppModule {
+    //Singleton scope
+    private final Lazy<CustomerRepository> customerRepository = new Lazy<CustomerRepository>() {
+        protected CustomerRepository create() {
+            return new CustomerRepositoryImpl();
+        }
+    };
+
+    private final Lazy<CustomerService> customerService = new Lazy<CustomerService>() {
+        protected CustomerService create() {
+            return new CustomerService(customerRepository());
+        }
+    };
+
+    private final Lazy<PaymentRouter> paymentRouter = new Lazy<PaymentRouter>() {
+        protected PaymentRouter create() {
+            return new PaymentRouter.Builder()
+                .register("card", new CreditCardPayment())
+                .register("paypal", new PayPalPayment())
+                .build();
+        }
+    };
+
+    private final Lazy<StudentView> studentView = new Lazy<StudentView>() {
+        protected StudentView create() {
+            return new StudentView();
+        }
+    };
+
+    public CustomerRepository customerRepository() {
+        return customerRepository.get();
+    }
+
+    public CustomerService customerService() {
+        return customerService.get();
+    }
+
+    public PaymentRouter paymentRouter() {
+        return paymentRouter.get();
+    }
+
+    public StudentView studentView() {
+        return studentView.get();
+    }
+
+    //Prototype scope; card is the default until the caller picks another strategy
+    public PaymentContext paymentContext() {
+        return new PaymentContext(new CreditCardPayment());
+    }
+
+    public StudentController studentController(Student model) {
+        return new StudentController(model, studentView());
+    }
+
+    //Lazy injection: nothing is built until the consumer calls get()
+    public Provider<CustomerService> customerServiceProvider() {
+        return customerService;
+    }
+}
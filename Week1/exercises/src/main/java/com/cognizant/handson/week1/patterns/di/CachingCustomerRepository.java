@@ -0,0 +1,315 @@
+package com.cognizant.handson.week1.patterns.di;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.cognizant.handson.week1.patterns.singleton.Logger;
+
+//Caching Customer Repository
+//Decorates any CustomerRepository: entries expire after a TTL and are reloaded in the background
+//once they pass the refresh-ahead age, unknown ids are cached as misses for a shorter time, and
+//concurrent misses for one id share a single call to the wrapped repository. Refreshes run on
+//their own small pool and take the same per-id slot as loads, so one id is never fetched twice at once.
+public class CachingCustomerRepository implements CustomerRepository {
+    private static final ExecutorService DEFAULT_REFRESH_EXECUTOR = Executors.newFixedThreadPool(2, task -> {
+        Thread thread = new Thread(task, "customer-cache-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static final class Entry {
+        final Customer customer;
+        final long loadedAt;
+
+        Entry(Customer customer, long loadedAt) {
+            this.customer = customer;
+            this.loadedAt = loadedAt;
+        }
+    }
+
+    private final CustomerRepository delegate;
+    private final long ttlNanos;
+    private final long refreshAheadNanos;
+    private final long negativeTtlNanos;
+    private final LinkedHashMap<String, Entry> entries;
+    private final ConcurrentHashMap<String, CompletableFuture<Customer>> loading = new ConcurrentHashMap<>();
+    private final ExecutorService refreshExecutor;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong negativeHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong loads = new AtomicLong();
+    private final AtomicLong loadNanos = new AtomicLong();
+    private final AtomicLong refreshes = new AtomicLong();
+    private final AtomicLong refreshFailures = new AtomicLong();
+
+    private CachingCustomerRepository(Builder builder) {
+        this.delegate = builder.delegate;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(builder.ttlMillis);
+        this.refreshAheadNanos = TimeUnit.MILLISECONDS.toNanos(builder.refreshAheadMillis);
+        this.negativeTtlNanos = TimeUnit.MILLISECONDS.toNanos(builder.negativeTtlMillis);
+        this.refreshExecutor = builder.refreshExecutor != null ? builder.refreshExecutor : DEFAULT_REFRESH_EXECUTOR;
+        final int maximumSize = builder.maximumSize;
+        this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maximumSize;
+            }
+        };
+    }
+
+    public Customer findCustomerById(String id) {
+        Entry entry = lookup(id);
+        if (entry != null) {
+            return entry.customer;
+        }
+        misses.incrementAndGet();
+        return load(id);
+    }
+
+    //Fresh entries are served from the cache. Misses take their loading slot exactly as
+    //findCustomerById does: ids already being loaded are joined, the rest go to the delegate in one call.
+    public Map<String, Customer> findCustomersByIds(Collection<String> ids) {
+        Map<String, Customer> found = new HashMap<>();
+        Map<String, CompletableFuture<Customer>> claimed = new LinkedHashMap<>();
+        Map<String, CompletableFuture<Customer>> inFlight = new HashMap<>();
+        for (String id : ids) {
+            Entry entry = lookup(id);
+            if (entry != null) {
+                if (entry.customer != null) {
+                    found.put(id, entry.customer);
+                }
+                continue;
+            }
+            misses.incrementAndGet();
+            CompletableFuture<Customer> future = new CompletableFuture<>();
+            CompletableFuture<Customer> other = loading.putIfAbsent(id, future);
+            if (other != null) {
+                inFlight.put(id, other);
+                continue;
+            }
+            entry = fresh(id);
+            if (entry != null) {
+                loading.remove(id, future);
+                future.complete(entry.customer);
+                if (entry.customer != null) {
+                    found.put(id, entry.customer);
+                }
+                continue;
+            }
+            claimed.put(id, future);
+        }
+        if (!claimed.isEmpty()) {
+            found.putAll(fetchAll(claimed));
+        }
+        // our own claims are complete before we wait on anyone else's
+        for (Map.Entry<String, CompletableFuture<Customer>> waiting : inFlight.entrySet()) {
+            Customer customer = join(waiting.getValue());
+            if (customer != null) {
+                found.put(waiting.getKey(), customer);
+            }
+        }
+        return found;
+    }
+
+    //Returns the entry if it is still fresh, counting the hit and starting refresh-ahead when due
+    private Entry lookup(String id) {
+        Entry entry = fresh(id);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.customer == null) {
+            negativeHits.incrementAndGet();
+        } else {
+            hits.incrementAndGet();
+            if (System.nanoTime() - entry.loadedAt >= refreshAheadNanos) {
+                refresh(id);
+            }
+        }
+        return entry;
+    }
+
+    private Entry fresh(String id) {
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(id);
+        }
+        if (entry == null) {
+            return null;
+        }
+        long age = System.nanoTime() - entry.loadedAt;
+        return age < (entry.customer == null ? negativeTtlNanos : ttlNanos) ? entry : null;
+    }
+
+    private Customer load(String id) {
+        CompletableFuture<Customer> future = new CompletableFuture<>();
+        CompletableFuture<Customer> inFlight = loading.putIfAbsent(id, future);
+        if (inFlight != null) {
+            return join(inFlight);
+        }
+        // a load that finished between our lookup and putIfAbsent has already stored the entry
+        Entry entry = fresh(id);
+        if (entry != null) {
+            loading.remove(id, future);
+            future.complete(entry.customer);
+            return entry.customer;
+        }
+        return fetch(id, future);
+    }
+
+    //Callers that joined another load see the same exception as the caller that ran it
+    private static Customer join(CompletableFuture<Customer> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        }
+    }
+
+    //The future is registered in loading before the task is queued, so a hot id is refreshed once
+    private void refresh(String id) {
+        CompletableFuture<Customer> future = new CompletableFuture<>();
+        if (loading.putIfAbsent(id, future) != null) {
+            return;
+        }
+        refreshes.incrementAndGet();
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    fetch(id, future);
+                } catch (RuntimeException e) {
+                    refreshFailed(id, e);
+                }
+            });
+        } catch (RuntimeException e) {
+            loading.remove(id, future);
+            future.completeExceptionally(e);
+            refreshFailed(id, e);
+        }
+    }
+
+    //The stale entry keeps being served until its TTL runs out
+    private void refreshFailed(String id, RuntimeException e) {
+        refreshFailures.incrementAndGet();
+        Logger.getInstance().log("Refresh of customer " + id + " failed: " + e);
+    }
+
+    //Caller owns the loading slot for id; it is released once the future completes
+    private Customer fetch(String id, CompletableFuture<Customer> future) {
+        try {
+            long start = System.nanoTime();
+            Customer customer = delegate.findCustomerById(id);
+            long end = System.nanoTime();
+            loadNanos.addAndGet(end - start);
+            loads.incrementAndGet();
+            synchronized (entries) {
+                entries.put(id, new Entry(customer, end));
+            }
+            future.complete(customer);
+            return customer;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(id, future);
+        }
+    }
+
+    //Bulk form of fetch: the caller owns the loading slot of every id in claimed
+    private Map<String, Customer> fetchAll(Map<String, CompletableFuture<Customer>> claimed) {
+        try {
+            long start = System.nanoTime();
+            Map<String, Customer> loaded = delegate.findCustomersByIds(claimed.keySet());
+            long end = System.nanoTime();
+            loadNanos.addAndGet(end - start);
+            loads.incrementAndGet();
+            synchronized (entries) {
+                for (String id : claimed.keySet()) {
+                    entries.put(id, new Entry(loaded.get(id), end));
+                }
+            }
+            for (Map.Entry<String, CompletableFuture<Customer>> entry : claimed.entrySet()) {
+                entry.getValue().complete(loaded.get(entry.getKey()));
+            }
+            return loaded;
+        } catch (RuntimeException e) {
+            for (CompletableFuture<Customer> future : claimed.values()) {
+                future.completeExceptionally(e);
+            }
+            throw e;
+        } finally {
+            for (Map.Entry<String, CompletableFuture<Customer>> entry : claimed.entrySet()) {
+                loading.remove(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    public long getHits() { return hits.get(); }
+    public long getNegativeHits() { return negativeHits.get(); }
+    public long getMisses() { return misses.get(); }
+    public long getLoads() { return loads.get(); }
+    public long getRefreshes() { return refreshes.get(); }
+    public long getRefreshFailures() { return refreshFailures.get(); }
+
+    public double getHitRatio() {
+        long served = hits.get() + negativeHits.get();
+        long total = served + misses.get();
+        return total == 0 ? 0 : (double) served / total;
+    }
+
+    public double getAverageLoadMillis() {
+        long n = loads.get();
+        return n == 0 ? 0 : loadNanos.get() / 1e6 / n;
+    }
+
+    public static class Builder {
+        private final CustomerRepository delegate;
+        private int maximumSize = 10_000;
+        private long ttlMillis = 60_000;
+        private long refreshAheadMillis = 45_000;
+        private long negativeTtlMillis = 5_000;
+        private ExecutorService refreshExecutor;
+
+        public Builder(CustomerRepository delegate) {
+            this.delegate = delegate;
+        }
+
+        public Builder setMaximumSize(int maximumSize) {
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        public Builder setTtlMillis(long ttlMillis) {
+            this.ttlMillis = ttlMillis;
+            return this;
+        }
+
+        public Builder setRefreshAheadMillis(long refreshAheadMillis) {
+            this.refreshAheadMillis = refreshAheadMillis;
+            return this;
+        }
+
+        public Builder setNegativeTtlMillis(long negativeTtlMillis) {
+            this.negativeTtlMillis = negativeTtlMillis;
+            return this;
+        }
+
+        //Defaults to a small daemon pool shared by all caches
+        public Builder setRefreshExecutor(ExecutorService refreshExecutor) {
+            this.refreshExecutor = refreshExecutor;
+            return this;
+        }
+
+        public CachingCustomerRepository build() {
+            return new CachingCustomerRepository(this);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.cognizant.handson.week1.patterns.di;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class CachingCustomerRepositoryTest {
+    static long p99Micros(CustomerService service, String[] ids) {
+        long[] micros = new long[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            long start = System.nanoTime();
+            service.getCustomer(ids[i]);
+            micros[i] = (System.nanoTime() - start) / 1000;
+        }
+        java.util.Arrays.sort(micros);
+        return micros[(int) (micros.length * 0.99)];
+    }
+    
+    public static void main(String[] args) throws InterruptedException {
+        java.util.Random random = new java.util.Random(7);
+        String[] ids = new String[2000];
+        for (int i = 0; i < ids.length; i++) {
+            // most traffic goes to a small set of hot customers, some ids are unknown
+            int id = random.nextInt(10) < 9 ? random.nextInt(10) : random.nextInt(1000);
+            ids[i] = (i % 50 == 0 ? "x" : "") + id;
+        }
+        
+        SlowCustomerRepository direct = new SlowCustomerRepository(2);
+        long directP99 = p99Micros(new CustomerService(direct), ids);
+        
+        SlowCustomerRepository backing = new SlowCustomerRepository(2);
+        CachingCustomerRepository cache = new CachingCustomerRepository.Builder(backing)
+            .setMaximumSize(1000)
+            .setTtlMillis(10_000)
+            .setRefreshAheadMillis(8_000)
+            .setNegativeTtlMillis(1_000)
+            .build();
+        long coldP99 = p99Micros(new CustomerService(cache), ids);
+        long warmP99 = p99Micros(new CustomerService(cache), ids);
+        
+        System.out.println("Direct p99: " + directP99 + " us, repository calls " + direct.getCalls());
+        System.out.println("Cached p99: cold " + coldP99 + " us, warm " + warmP99 + " us, repository calls " + backing.getCalls());
+        System.out.println("Hit ratio: " + cache.getHitRatio() + ", average load ms " + cache.getAverageLoadMillis());
+        
+        // many threads reading one hot id past its refresh-ahead age start a single refresh
+        SlowCustomerRepository hot = new SlowCustomerRepository(20);
+        CachingCustomerRepository refreshing = new CachingCustomerRepository.Builder(hot)
+            .setTtlMillis(10_000)
+            .setRefreshAheadMillis(50)
+            .build();
+        refreshing.findCustomerById("1");
+        Thread.sleep(60);
+        List<Thread> readers = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            Thread reader = new Thread(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    refreshing.findCustomerById("1");
+                }
+            });
+            readers.add(reader);
+            reader.start();
+        }
+        for (Thread reader : readers) {
+            reader.join();
+        }
+        Thread.sleep(60);
+        System.out.println("Refresh-ahead: refreshes " + refreshing.getRefreshes() + ", failures " + refreshing.getRefreshFailures()
+                + ", repository calls " + hot.getCalls());
+    }
+}
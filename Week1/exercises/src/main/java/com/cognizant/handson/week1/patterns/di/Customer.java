@@ -0,0 +1,19 @@
+package com.cognizant.handson.week1.patterns.di;
+
+public class Customer {
+    private String id;
+    private String name;
+    
+    public Customer(String id, String name) {
+        this.id = id;
+        this.name = name;
+    }
+    
+    public String getId() {
+        return id;
+    }
+    
+    public String getName() {
+        return name;
+    }
+}
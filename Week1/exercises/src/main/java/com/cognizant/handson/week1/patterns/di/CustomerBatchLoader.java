@@ -0,0 +1,144 @@
+package com.cognizant.handson.week1.patterns.di;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+//Batch Loader
+//Collects the ids asked for during one tick of a request, deduplicates them and resolves them
+//with a single findCustomersByIds call. The batch goes out one tick after the first queued id, or
+//as soon as it is full; either way the repository call runs on the I/O executor, never on the tick
+//thread or the caller. dispatch() sends the batch early on the calling thread. Results are kept for
+//the life of the loader, so asking for the same id again later in the request does not go back to
+//the repository; failed lookups are forgotten, so they are retried.
+public class CustomerBatchLoader {
+    private static final long TICK_MICROS = 1000;
+    //Only hands batches over, so one thread serves every loader
+    private static final ScheduledExecutorService TICKS = Executors.newSingleThreadScheduledExecutor(task -> {
+        Thread thread = new Thread(task, "customer-batch-tick");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private static final ExecutorService DEFAULT_IO_EXECUTOR = Executors.newFixedThreadPool(4, task -> {
+        Thread thread = new Thread(task, "customer-batch-io");
+        thread.setDaemon(true);
+        return thread;
+    });
+    
+    private final CustomerRepository repository;
+    private final int maxBatchSize;
+    private final Executor ioExecutor;
+    private final Map<String, CompletableFuture<Customer>> results = new HashMap<>();
+    private Map<String, CompletableFuture<Customer>> pending = new LinkedHashMap<>();
+    private boolean tickScheduled;
+    private long batches;
+    private long requested;
+    
+    CustomerBatchLoader(CustomerRepository repository, int maxBatchSize) {
+        this(repository, maxBatchSize, DEFAULT_IO_EXECUTOR);
+    }
+    
+    CustomerBatchLoader(CustomerRepository repository, int maxBatchSize, Executor ioExecutor) {
+        this.repository = repository;
+        this.maxBatchSize = maxBatchSize;
+        this.ioExecutor = ioExecutor;
+    }
+    
+    public CompletableFuture<Customer> load(String id) {
+        Map<String, CompletableFuture<Customer>> full;
+        CompletableFuture<Customer> ready;
+        synchronized (this) {
+            requested++;
+            CompletableFuture<Customer> future = results.get(id);
+            if (future != null) {
+                return future;
+            }
+            future = new CompletableFuture<>();
+            results.put(id, future);
+            pending.put(id, future);
+            if (pending.size() < maxBatchSize) {
+                if (!tickScheduled) {
+                    tickScheduled = true;
+                    TICKS.schedule(this::tick, TICK_MICROS, TimeUnit.MICROSECONDS);
+                }
+                return future;
+            }
+            full = take();
+            ready = future;
+        }
+        send(full);
+        return ready;
+    }
+    
+    private void tick() {
+        Map<String, CompletableFuture<Customer>> batch;
+        synchronized (this) {
+            tickScheduled = false;
+            batch = take();
+        }
+        send(batch);
+    }
+    
+    public void dispatch() {
+        Map<String, CompletableFuture<Customer>> batch;
+        synchronized (this) {
+            batch = take();
+        }
+        if (batch != null) {
+            resolve(batch);
+        }
+    }
+    
+    //Caller holds the lock; returns null when nothing is pending
+    private Map<String, CompletableFuture<Customer>> take() {
+        if (pending.isEmpty()) {
+            return null;
+        }
+        Map<String, CompletableFuture<Customer>> batch = pending;
+        pending = new LinkedHashMap<>();
+        batches++;
+        return batch;
+    }
+    
+    private void send(Map<String, CompletableFuture<Customer>> batch) {
+        if (batch == null) {
+            return;
+        }
+        try {
+            ioExecutor.execute(() -> resolve(batch));
+        } catch (RuntimeException e) {
+            fail(batch, e);
+        }
+    }
+    
+    private void resolve(Map<String, CompletableFuture<Customer>> batch) {
+        try {
+            Map<String, Customer> found = repository.findCustomersByIds(batch.keySet());
+            for (Map.Entry<String, CompletableFuture<Customer>> entry : batch.entrySet()) {
+                entry.getValue().complete(found.get(entry.getKey()));
+            }
+        } catch (RuntimeException e) {
+            fail(batch, e);
+        }
+    }
+    
+    private void fail(Map<String, CompletableFuture<Customer>> batch, RuntimeException e) {
+        synchronized (this) {
+            for (Map.Entry<String, CompletableFuture<Customer>> entry : batch.entrySet()) {
+                results.remove(entry.getKey(), entry.getValue());
+            }
+        }
+        for (CompletableFuture<Customer> future : batch.values()) {
+            future.completeExceptionally(e);
+        }
+    }
+    
+    public synchronized long getBatches() { return batches; }
+    public synchronized long getRequested() { return requested; }
+}
@@ -0,0 +1,53 @@
+package com.cognizant.handson.week1.patterns.di;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+public class CustomerBatchLoaderTest {
+    public static void main(String[] args) throws InterruptedException {
+        SlowCustomerRepository looped = new SlowCustomerRepository(2);
+        CustomerService loopedService = new CustomerService(looped);
+        long start = System.nanoTime();
+        for (int i = 0; i < 300; i++) {
+            loopedService.getCustomer(String.valueOf(i % 200));
+        }
+        long loopedMillis = (System.nanoTime() - start) / 1_000_000;
+        
+        // no dispatch() call: the batch goes out on the loader's tick
+        SlowCustomerRepository batched = new SlowCustomerRepository(2);
+        CustomerService batchedService = new CustomerService(batched);
+        start = System.nanoTime();
+        CustomerBatchLoader loader = batchedService.newBatchLoader(1000);
+        List<CompletableFuture<Customer>> results = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            results.add(loader.load(String.valueOf(i % 200)));
+        }
+        CompletableFuture.allOf(results.toArray(new CompletableFuture<?>[0])).join();
+        long batchedMillis = (System.nanoTime() - start) / 1_000_000;
+        long batchedCalls = batched.getCalls();
+        for (int i = 0; i < 200; i++) {
+            loader.load(String.valueOf(i)).join();
+        }
+        
+        System.out.println("Looped: " + looped.getCalls() + " repository calls in " + loopedMillis + " ms");
+        System.out.println("Batched: " + batchedCalls + " repository calls in " + batchedMillis + " ms, "
+                + (batched.getCalls() - batchedCalls) + " more for repeated ids");
+        System.out.println("First customer: " + results.get(0).join().getName());
+        
+        // two overlapping bulk lookups through the cache: shared ids are loaded once
+        SlowCustomerRepository backing = new SlowCustomerRepository(20);
+        CachingCustomerRepository cache = new CachingCustomerRepository.Builder(backing).build();
+        List<String> first = new ArrayList<>();
+        List<String> second = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            first.add(String.valueOf(i));
+            second.add(String.valueOf(i + 50));
+        }
+        Thread other = new Thread(() -> cache.findCustomersByIds(second));
+        other.start();
+        int found = cache.findCustomersByIds(first).size();
+        other.join();
+        System.out.println("Cached bulk: found " + found + ", repository calls " + backing.getCalls() + ", loads " + cache.getLoads());
+    }
+}
@@ -0,0 +1,22 @@
+package com.cognizant.handson.week1.patterns.di;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+//Exercise 11: Implementing Dependency Injection
+public interface CustomerRepository {
+    Customer findCustomerById(String id);
+    
+    //Ids that do not exist are left out of the result; override to fetch in one round trip
+    default Map<String, Customer> findCustomersByIds(Collection<String> ids) {
+        Map<String, Customer> found = new HashMap<>();
+        for (String id : ids) {
+            Customer customer = findCustomerById(id);
+            if (customer != null) {
+                found.put(id, customer);
+            }
+        }
+        return found;
+    }
+}
@@ -0,0 +1,22 @@
+package com.cognizant.handson.week1.patterns.di;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.cognizant.handson.week1.inject.Component;
+
+@Component(bind = CustomerRepository.class)
+public class CustomerRepositoryImpl implements CustomerRepository {
+    public Customer findCustomerById(String id) {
+        return new Customer(id, "Customer Name");
+    }
+    
+    public Map<String, Customer> findCustomersByIds(Collection<String> ids) {
+        Map<String, Customer> found = new HashMap<>(ids.size() * 2);
+        for (String id : ids) {
+            found.put(id, new Customer(id, "Customer Name"));
+        }
+        return found;
+    }
+}
@@ -0,0 +1,33 @@
+package com.cognizant.handson.week1.patterns.di;
+
+import java.util.Collection;
+import java.util.Map;
+
+import com.cognizant.handson.week1.inject.Component;
+
+@Component
+public class CustomerService {
+    private CustomerRepository repository;
+    
+    public CustomerService(CustomerRepository repository) {
+        this.repository = repository;
+    }
+    
+    public Customer getCustomer(String id) {
+        return repository.findCustomerById(id);
+    }
+    
+    public Map<String, Customer> getCustomers(Collection<String> ids) {
+        return repository.findCustomersByIds(new java.util.LinkedHashSet<>(ids));
+    }
+    
+    //One loader per request: lookups queued on it go out together on the next tick or dispatch()
+    public CustomerBatchLoader newBatchLoader(int maxBatchSize) {
+        return new CustomerBatchLoader(repository, maxBatchSize);
+    }
+    
+    //Same, with the repository calls run on the caller's own I/O executor
+    public CustomerBatchLoader newBatchLoader(int maxBatchSize, java.util.concurrent.Executor ioExecutor) {
+        return new CustomerBatchLoader(repository, maxBatchSize, ioExecutor);
+    }
+}
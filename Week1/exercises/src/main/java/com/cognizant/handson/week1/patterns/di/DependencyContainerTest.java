@@ -0,0 +1,38 @@
+package com.cognizant.handson.week1.patterns.di;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class DependencyContainerTest {
+    //What a reflective container does at startup: look up constructors and resolve parameters by type
+    static Object resolve(Class<?> type, Map<Class<?>, Class<?>> bindings) throws Exception {
+        java.lang.reflect.Constructor<?> constructor = bindings.getOrDefault(type, type).getDeclaredConstructors()[0];
+        Class<?>[] parameterTypes = constructor.getParameterTypes();
+        Object[] arguments = new Object[parameterTypes.length];
+        for (int i = 0; i < parameterTypes.length; i++) {
+            arguments[i] = resolve(parameterTypes[i], bindings);
+        }
+        constructor.setAccessible(true);
+        return constructor.newInstance(arguments);
+    }
+    
+    //Run once per JVM (java DependencyContainerTest generated|wired|reflective) so each starts cold
+    public static void main(String[] args) throws Exception {
+        String mode = args.length > 0 ? args[0] : "generated";
+        long start = System.nanoTime();
+        CustomerService service;
+        if (mode.equals("reflective")) {
+            Map<Class<?>, Class<?>> bindings = new HashMap<>();
+            bindings.put(CustomerRepository.class, CustomerRepositoryImpl.class);
+            service = (CustomerService) resolve(CustomerService.class, bindings);
+        } else if (mode.equals("wired")) {
+            service = new AppModule().customerService();
+        } else {
+            service = new Components().customerService();
+        }
+        long nanos = System.nanoTime() - start;
+        
+        System.out.println(mode + " cold start: " + nanos / 1000 + " us");
+        System.out.println("Customer: " + service.getCustomer("12345").getId());
+    }
+}
@@ -0,0 +1,12 @@
+package com.cognizant.handson.week1.patterns.di;
+
+public class DependencyInjectionTest {
+    public static void main(String[] args) {
+        CustomerRepository repository = new CustomerRepositoryImpl();
+        CustomerService service = new CustomerService(repository);
+        
+        Customer customer = service.getCustomer("12345");
+        System.out.println("Customer ID: " + customer.getId());
+        System.out.println("Customer Name: " + customer.getName());
+    }
+}
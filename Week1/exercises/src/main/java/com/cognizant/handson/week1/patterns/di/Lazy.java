@@ -0,0 +1,23 @@
+package com.cognizant.handson.week1.patterns.di;
+
+//Double-checked lazy singleton. Bindings subclass it anonymously instead of passing a lambda,
+//which would pull the invokedynamic bootstrap into every cold start.
+abstract class Lazy<T> implements Provider<T> {
+    private volatile T instance;
+
+    protected abstract T create();
+
+    public T get() {
+        T result = instance;
+        if (result == null) {
+            synchronized (this) {
+                result = instance;
+                if (result == null) {
+                    result = create();
+                    instance = result;
+                }
+            }
+        }
+        return result;
+    }
+}
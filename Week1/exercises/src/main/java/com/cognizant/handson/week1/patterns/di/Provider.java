@@ -0,0 +1,9 @@
+package com.cognizant.handson.week1.patterns.di;
+
+//Reflection-free Dependency Container
+//Components is generated at compile time from the @Component classes in this package (see the
+//inject module); AppModule wires the rest by hand, with Lazy singletons, plain constructor calls
+//for prototypes and a Provider to defer creation. Nothing is scanned or instantiated reflectively.
+public interface Provider<T> {
+    T get();
+}
@@ -0,0 +1,47 @@
+package com.cognizant.handson.week1.patterns.di;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+//Local stand-in for a remote repository: every lookup sleeps, ids starting with "x" do not exist
+public class SlowCustomerRepository implements CustomerRepository {
+    private final long latencyMillis;
+    private final AtomicLong calls = new AtomicLong();
+
+    public SlowCustomerRepository(long latencyMillis) {
+        this.latencyMillis = latencyMillis;
+    }
+
+    public Customer findCustomerById(String id) {
+        calls.incrementAndGet();
+        sleep();
+        return id.startsWith("x") ? null : new Customer(id, "Customer " + id);
+    }
+    
+    //One round trip however many ids are asked for
+    public Map<String, Customer> findCustomersByIds(Collection<String> ids) {
+        calls.incrementAndGet();
+        sleep();
+        Map<String, Customer> found = new HashMap<>();
+        for (String id : ids) {
+            if (!id.startsWith("x")) {
+                found.put(id, new Customer(id, "Customer " + id));
+            }
+        }
+        return found;
+    }
+    
+    private void sleep() {
+        try {
+            Thread.sleep(latencyMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public long getCalls() {
+        return calls.get();
+    }
+}
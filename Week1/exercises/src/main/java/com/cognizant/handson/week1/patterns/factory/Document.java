@@ -0,0 +1,7 @@
+package com.cognizant.handson.week1.patterns.factory;
+
+//Exercise 2: Implementing the Factory Method Pattern
+//Define Document Classes
+public interface Document {
+    void open();
+}
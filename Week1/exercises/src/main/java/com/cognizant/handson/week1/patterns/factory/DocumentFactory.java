@@ -0,0 +1,6 @@
+package com.cognizant.handson.week1.patterns.factory;
+
+//Implementing the Factory Method
+public abstract class DocumentFactory {
+    public abstract Document createDocument();
+}
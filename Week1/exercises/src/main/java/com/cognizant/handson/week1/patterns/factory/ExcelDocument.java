@@ -0,0 +1,7 @@
+package com.cognizant.handson.week1.patterns.factory;
+
+public class ExcelDocument implements Document {
+    public void open() {
+        System.out.println("Opening Excel document...");
+    }
+}
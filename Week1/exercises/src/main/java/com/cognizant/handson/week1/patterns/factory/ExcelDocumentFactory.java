@@ -0,0 +1,7 @@
+package com.cognizant.handson.week1.patterns.factory;
+
+public class ExcelDocumentFactory extends DocumentFactory {
+    public Document createDocument() {
+        return new ExcelDocument();
+    }
+}
@@ -0,0 +1,7 @@
+package com.cognizant.handson.week1.patterns.factory;
+
+public class PdfDocument implements Document {
+    public void open() {
+        System.out.println("Opening PDF document...");
+    }
+}
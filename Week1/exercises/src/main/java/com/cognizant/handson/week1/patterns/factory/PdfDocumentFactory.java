@@ -0,0 +1,7 @@
+package com.cognizant.handson.week1.patterns.factory;
+
+public class PdfDocumentFactory extends DocumentFactory {
+    public Document createDocument() {
+        return new PdfDocument();
+    }
+}
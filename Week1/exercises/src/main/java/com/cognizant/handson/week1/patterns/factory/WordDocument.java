@@ -0,0 +1,7 @@
+package com.cognizant.handson.week1.patterns.factory;
+
+public class WordDocument implements Document {
+    public void open() {
+        System.out.println("Opening Word document...");
+    }
+}
@@ -0,0 +1,51 @@
+package com.cognizant.handson.week1.patterns.mvc;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+//Roster Controller
+//Renders many students per frame into one reusable buffer that is flushed to the writer in
+//large chunks, so the cost is the I/O rather than per-student string building.
+public class RosterController {
+    private static final int CHUNK = 1 << 16;
+    
+    private final List<Student> models;
+    private final StudentView view;
+    private final StringBuilder buffer;
+    
+    public RosterController(List<Student> models, StudentView view) {
+        this.models = models;
+        this.view = view;
+        this.buffer = new StringBuilder(CHUNK + 256);
+    }
+    
+    //Renders only the students that changed since the previous frame; returns how many
+    public int renderFrame(Writer out) throws IOException {
+        return render(out, true);
+    }
+    
+    public int renderAll(Writer out) throws IOException {
+        return render(out, false);
+    }
+    
+    private int render(Writer out, boolean dirtyOnly) throws IOException {
+        int rendered = 0;
+        for (Student model : models) {
+            if (dirtyOnly && !model.isDirty()) {
+                continue;
+            }
+            view.appendStudentDetails(buffer, model.getName(), model.getId(), model.getGrade());
+            model.clearDirty();
+            rendered++;
+            if (buffer.length() >= CHUNK) {
+                out.append(buffer);
+                buffer.setLength(0);
+            }
+        }
+        out.append(buffer);
+        buffer.setLength(0);
+        out.flush();
+        return rendered;
+    }
+}
@@ -0,0 +1,33 @@
+package com.cognizant.handson.week1.patterns.mvc;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+public class RosterControllerTest {
+    public static void main(String[] args) throws IOException {
+        List<Student> roster = new ArrayList<>(1_000_000);
+        for (int i = 0; i < 1_000_000; i++) {
+            roster.add(new Student("Student " + i, String.valueOf(i), "A"));
+        }
+        RosterController controller = new RosterController(roster, new StudentView());
+        
+        try (Writer out = new java.io.BufferedWriter(new java.io.FileWriter("/dev/null"), 1 << 16)) {
+            long start = System.nanoTime();
+            int first = controller.renderFrame(out);
+            long firstMillis = (System.nanoTime() - start) / 1_000_000;
+            
+            for (int i = 0; i < 1000; i++) {
+                roster.get(i).setGrade("B");
+                roster.get(i).setGrade("C");
+            }
+            start = System.nanoTime();
+            int second = controller.renderFrame(out);
+            long secondMillis = (System.nanoTime() - start) / 1_000_000;
+            
+            System.out.println("First frame: " + first + " students in " + firstMillis + " ms");
+            System.out.println("Second frame: " + second + " students in " + secondMillis + " ms");
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.cognizant.handson.week1.patterns.mvc;
+
+//Exercise 10: Implementing the MVC Pattern
+public class Student {
+    //Bits for the fields changed since the last render
+    public static final int NAME = 1;
+    public static final int ID = 2;
+    public static final int GRADE = 4;
+    
+    private String name;
+    private String id;
+    private String grade;
+    private int dirty = NAME | ID | GRADE;
+    
+    public Student(String name, String id, String grade) {
+        this.name = name;
+        this.id = id;
+        this.grade = grade;
+    }
+    
+    public boolean isDirty() {
+        return dirty != 0;
+    }
+    
+    public int getDirtyFields() {
+        return dirty;
+    }
+    
+    public void clearDirty() {
+        dirty = 0;
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    public void setName(String name) {
+        if (!java.util.Objects.equals(this.name, name)) {
+            this.name = name;
+            dirty |= NAME;
+        }
+    }
+    
+    public String getId() {
+        return id;
+    }
+    
+    public void setId(String id) {
+        if (!java.util.Objects.equals(this.id, id)) {
+            this.id = id;
+            dirty |= ID;
+        }
+    }
+    
+    public String getGrade() {
+        return grade;
+    }
+    
+    public void setGrade(String grade) {
+        if (!java.util.Objects.equals(this.grade, grade)) {
+            this.grade = grade;
+            dirty |= GRADE;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.cognizant.handson.week1.patterns.mvc;
+
+//Controller Class
+public class StudentController {
+    private Student model;
+    private StudentView view;
+    
+    public StudentController(Student model, StudentView view) {
+        this.model = model;
+        this.view = view;
+    }
+    
+    public void setStudentName(String name) {
+        model.setName(name);
+    }
+    
+    public String getStudentName() {
+        return model.getName();
+    }
+    
+    public void setStudentId(String id) {
+        model.setId(id);
+    }
+    
+    public String getStudentId() {
+        return model.getId();
+    }
+    
+    public void setStudentGrade(String grade) {
+        model.setGrade(grade);
+    }
+    
+    public String getStudentGrade() {
+        return model.getGrade();
+    }
+    
+    //Renders once per tick; several setter calls in between produce a single redraw
+    public void updateView() {
+        if (!model.isDirty()) {
+            return;
+        }
+        view.displayStudentDetails(model.getName(), model.getId(), model.getGrade());
+        model.clearDirty();
+    }
+}
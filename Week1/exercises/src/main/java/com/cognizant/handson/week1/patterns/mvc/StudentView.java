@@ -0,0 +1,18 @@
+package com.cognizant.handson.week1.patterns.mvc;
+
+//view class
+public class StudentView {
+    public void displayStudentDetails(String studentName, String studentId, String studentGrade) {
+        StringBuilder out = new StringBuilder(64);
+        appendStudentDetails(out, studentName, studentId, studentGrade);
+        System.out.print(out);
+    }
+    
+    //Same text as displayStudentDetails, appended to a caller-owned buffer
+    public void appendStudentDetails(StringBuilder out, String studentName, String studentId, String studentGrade) {
+        out.append("Student: \n")
+           .append("Name: ").append(studentName).append('\n')
+           .append("ID: ").append(studentId).append('\n')
+           .append("Grade: ").append(studentGrade).append('\n');
+    }
+}
@@ -0,0 +1,7 @@
+package com.cognizant.handson.week1.patterns.observer;
+
+public class MobileApp implements Observer {
+    public void update(double stockPrice) {
+        System.out.println("Mobile app notified. New stock price: $" + stockPrice);
+    }
+}
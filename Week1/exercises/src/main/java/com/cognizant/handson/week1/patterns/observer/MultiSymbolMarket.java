@@ -0,0 +1,60 @@
+package com.cognizant.handson.week1.patterns.observer;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public class MultiSymbolMarket {
+    private final int maxSymbols;
+    private final ConcurrentHashMap<String, Integer> symbolIds = new ConcurrentHashMap<>();
+    private final AtomicInteger nextId = new AtomicInteger();
+    private final AtomicLongArray prices;
+    private final List<SymbolSubscription> subscriptions = new CopyOnWriteArrayList<>();
+
+    public MultiSymbolMarket(int maxSymbols) {
+        this.maxSymbols = maxSymbols;
+        this.prices = new AtomicLongArray(maxSymbols);
+    }
+
+    public int getMaxSymbols() {
+        return maxSymbols;
+    }
+
+    public int symbolId(String symbol) {
+        return symbolIds.computeIfAbsent(symbol, s -> {
+            int id = nextId.getAndIncrement();
+            if (id >= maxSymbols) {
+                throw new IllegalStateException("Symbol table is full: " + maxSymbols);
+            }
+            return id;
+        });
+    }
+
+    public double getPrice(int symbolId) {
+        return Double.longBitsToDouble(prices.get(symbolId));
+    }
+
+    public void setPrice(int symbolId, double price) {
+        prices.set(symbolId, Double.doubleToRawLongBits(price));
+        for (SymbolSubscription subscription : subscriptions) {
+            subscription.markDirty(symbolId);
+        }
+    }
+
+    //symbolIds == null subscribes to every symbol; intervalMillis paces a slow consumer
+    public SymbolSubscription subscribe(SymbolObserver observer, int[] symbolIds, int maxBatch, long intervalMillis) {
+        SymbolSubscription subscription = new SymbolSubscription(this, observer, symbolIds, maxBatch, intervalMillis);
+        subscriptions.add(subscription);
+        return subscription;
+    }
+
+    public void unsubscribe(SymbolObserver observer) {
+        for (SymbolSubscription subscription : subscriptions) {
+            if (subscription.getObserver() == observer && subscriptions.remove(subscription)) {
+                subscription.close();
+            }
+        }
+    }
+}
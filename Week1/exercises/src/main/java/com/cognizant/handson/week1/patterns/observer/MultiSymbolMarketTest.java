@@ -0,0 +1,26 @@
+package com.cognizant.handson.week1.patterns.observer;
+
+public class MultiSymbolMarketTest {
+    public static void main(String[] args) throws InterruptedException {
+        MultiSymbolMarket market = new MultiSymbolMarket(4096);
+        int[] ids = new int[1000];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = market.symbolId("SYM" + i);
+        }
+        
+        SymbolSubscription all = market.subscribe((id, price) -> { }, null, 256, 0);
+        SymbolSubscription watchlist = market.subscribe((id, price) -> { },
+                new int[] { market.symbolId("SYM1"), market.symbolId("SYM2") }, 16, 50);
+        
+        int ticks = 1_000_000;
+        for (int i = 0; i < ticks; i++) {
+            market.setPrice(ids[i % ids.length], 100.0 + i);
+        }
+        Thread.sleep(200);
+        
+        System.out.println("Ticks published: " + ticks);
+        System.out.println("All symbols: delivered " + all.getDelivered() + " in " + all.getBatches() + " batches, conflated " + all.getConflated());
+        System.out.println("Watchlist: delivered " + watchlist.getDelivered() + ", conflated " + watchlist.getConflated());
+        System.out.println("SYM1 latest: " + market.getPrice(market.symbolId("SYM1")));
+    }
+}
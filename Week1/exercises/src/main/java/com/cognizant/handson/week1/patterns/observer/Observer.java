@@ -0,0 +1,5 @@
+package com.cognizant.handson.week1.patterns.observer;
+
+public interface Observer {
+    void update(double stockPrice);
+}
@@ -0,0 +1,16 @@
+package com.cognizant.handson.week1.patterns.observer;
+
+public class ObserverPatternTest {
+    public static void main(String[] args) {
+        StockMarket stockMarket = new StockMarket();
+        
+        Observer mobileApp = new MobileApp();
+        Observer webApp = new WebApp();
+        
+        stockMarket.registerObserver(mobileApp);
+        stockMarket.registerObserver(webApp);
+        
+        stockMarket.setStockPrice(100.0);
+        stockMarket.setStockPrice(105.0);
+    }
+}
@@ -0,0 +1,10 @@
+package com.cognizant.handson.week1.patterns.observer;
+
+//Asynchronous Stock Event Bus
+//Every subscriber gets its own bounded queue and consumer thread, so publishing a tick only
+//writes into those queues and a slow Observer.update can never hold up the feed.
+public enum OverflowPolicy {
+    DROP_NEWEST,   // keep what is queued, discard the incoming tick
+    DROP_OLDEST,   // discard the oldest queued tick to make room
+    CONFLATE       // keep only the latest price, no queue at all
+}
@@ -0,0 +1,8 @@
+package com.cognizant.handson.week1.patterns.observer;
+
+//Exercise 7: Implementing the Observer Pattern
+public interface Stock {
+    void registerObserver(Observer observer);
+    void deregisterObserver(Observer observer);
+    void notifyObservers();
+}
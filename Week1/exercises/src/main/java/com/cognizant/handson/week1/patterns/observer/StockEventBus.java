@@ -0,0 +1,67 @@
+package com.cognizant.handson.week1.patterns.observer;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class StockEventBus implements Stock {
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+    private final int capacity;
+    private final OverflowPolicy defaultPolicy;
+    private volatile double stockPrice;
+    private final AtomicReference<Thread> publisher = new AtomicReference<>();
+
+    public StockEventBus(int capacity, OverflowPolicy defaultPolicy) {
+        this.capacity = capacity;
+        this.defaultPolicy = defaultPolicy;
+    }
+
+    public void registerObserver(Observer observer) {
+        registerObserver(observer, capacity, defaultPolicy);
+    }
+
+    public Subscription registerObserver(Observer observer, int capacity, OverflowPolicy policy) {
+        Subscription subscription = new Subscription(observer, capacity, policy);
+        subscriptions.add(subscription);
+        return subscription;
+    }
+
+    public void deregisterObserver(Observer observer) {
+        for (Subscription subscription : subscriptions) {
+            if (subscription.getObserver() == observer && subscriptions.remove(subscription)) {
+                subscription.close();
+            }
+        }
+    }
+
+    //Each subscriber queue has a single producer, so the first thread to publish owns the bus
+    //and ticks from any other thread are rejected
+    public void notifyObservers() {
+        checkPublisher();
+        double price = stockPrice;
+        for (Subscription subscription : subscriptions) {
+            subscription.offer(price);
+        }
+    }
+
+    public void setStockPrice(double stockPrice) {
+        checkPublisher();
+        this.stockPrice = stockPrice;
+        notifyObservers();
+    }
+
+    private void checkPublisher() {
+        Thread current = Thread.currentThread();
+        Thread owner = publisher.get();
+        if (owner != current && !(owner == null && publisher.compareAndSet(null, current))) {
+            throw new IllegalStateException("Stock ticks must come from " + publisher.get().getName());
+        }
+    }
+
+    public void close() {
+        for (Subscription subscription : subscriptions) {
+            subscription.close();
+        }
+        subscriptions.clear();
+    }
+}
@@ -0,0 +1,40 @@
+package com.cognizant.handson.week1.patterns.observer;
+
+public class StockEventBusTest {
+    public static void main(String[] args) throws InterruptedException {
+        StockEventBus bus = new StockEventBus(1024, OverflowPolicy.DROP_OLDEST);
+        
+        Subscription fast = bus.registerObserver(price -> { }, 1 << 16, OverflowPolicy.DROP_OLDEST);
+        Subscription slow = bus.registerObserver(price -> {
+            try {
+                Thread.sleep(1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, 1024, OverflowPolicy.CONFLATE);
+        
+        int ticks = 1_000_000;
+        long start = System.nanoTime();
+        for (int i = 0; i < ticks; i++) {
+            bus.setStockPrice(100.0 + (i % 100) / 100.0);
+        }
+        long nanos = System.nanoTime() - start;
+
+        // Subscriber queues have one producer, so a second publishing thread is refused
+        Thread other = new Thread(() -> {
+            try {
+                bus.setStockPrice(99.0);
+            } catch (IllegalStateException e) {
+                System.out.println("Rejected: " + e.getMessage());
+            }
+        });
+        other.start();
+        other.join();
+        Thread.sleep(100);
+        bus.close();
+        
+        System.out.println("Published " + ticks + " ticks in " + nanos / 1_000_000 + " ms");
+        System.out.println("Fast subscriber delivered " + fast.getDelivered() + ", dropped " + fast.getDropped());
+        System.out.println("Slow subscriber delivered " + slow.getDelivered() + ", conflated " + slow.getDropped());
+    }
+}
@@ -0,0 +1,39 @@
+package com.cognizant.handson.week1.patterns.observer;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import com.cognizant.handson.week1.metrics.Metrics;
+import com.cognizant.handson.week1.metrics.OperationMetrics;
+
+//concrete subject
+//Copy-on-write list so observers can register or leave while a notification is running
+public class StockMarket implements Stock {
+    private static final OperationMetrics NOTIFY_METRICS = Metrics.operation("stockMarket.notifyObservers");
+    private List<Observer> observers = new CopyOnWriteArrayList<>();
+    private double stockPrice;
+    
+    public void registerObserver(Observer observer) {
+        observers.add(observer);
+    }
+    
+    public void deregisterObserver(Observer observer) {
+        observers.remove(observer);
+    }
+    
+    public void notifyObservers() {
+        long start = NOTIFY_METRICS.start();
+        try {
+            for (Observer observer : observers) {
+                observer.update(stockPrice);
+            }
+        } finally {
+            NOTIFY_METRICS.stop(start);
+        }
+    }
+    
+    public void setStockPrice(double stockPrice) {
+        this.stockPrice = stockPrice;
+        notifyObservers();
+    }
+}
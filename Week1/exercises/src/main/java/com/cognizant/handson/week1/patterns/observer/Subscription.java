@@ -0,0 +1,130 @@
+package com.cognizant.handson.week1.patterns.observer;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+public class Subscription implements Runnable {
+    private final Observer observer;
+    private final OverflowPolicy policy;
+    private final double[] ring;
+    private final int mask;
+    //head is claimed by CAS because DROP_OLDEST lets the publisher advance it too
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong latest = new AtomicLong();
+    private final AtomicBoolean hasLatest = new AtomicBoolean();
+    private final AtomicLong delivered = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private volatile boolean running = true;
+    //Set by the consumer before it parks; the first offer after that clears it and unparks
+    private final AtomicBoolean waiting = new AtomicBoolean();
+    private final Thread thread;
+
+    Subscription(Observer observer, int capacity, OverflowPolicy policy) {
+        if (Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two: " + capacity);
+        }
+        this.observer = observer;
+        this.policy = policy;
+        this.ring = new double[capacity];
+        this.mask = capacity - 1;
+        this.thread = new Thread(this, "stock-subscriber");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    Observer getObserver() {
+        return observer;
+    }
+
+    //Called only from the publishing thread
+    void offer(double price) {
+        if (policy == OverflowPolicy.CONFLATE) {
+            latest.set(Double.doubleToRawLongBits(price));
+            if (hasLatest.getAndSet(true)) {
+                dropped.incrementAndGet();
+            }
+            wake();
+            return;
+        }
+        long t = tail.get();
+        if (t - head.get() == ring.length) {
+            if (policy == OverflowPolicy.DROP_NEWEST) {
+                dropped.incrementAndGet();
+                return;
+            }
+            //If the CAS loses, the consumer has just taken the oldest tick and freed the slot
+            if (head.compareAndSet(t - ring.length, t - ring.length + 1)) {
+                dropped.incrementAndGet();
+            }
+        }
+        ring[(int) t & mask] = price;
+        //A full volatile write, so the read of waiting below cannot move ahead of it
+        tail.set(t + 1);
+        wake();
+    }
+
+    private void wake() {
+        if (waiting.get() && waiting.getAndSet(false)) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    public void run() {
+        int idle = 0;
+        while (running) {
+            if (poll()) {
+                idle = 0;
+            } else if (++idle < 100) {
+                Thread.onSpinWait();
+            } else {
+                //Check once more after announcing, or a tick offered in between would be missed
+                waiting.set(true);
+                if (!poll()) {
+                    LockSupport.park(this);
+                }
+                waiting.lazySet(false);
+                idle = 0;
+            }
+        }
+    }
+
+    private boolean poll() {
+        if (policy == OverflowPolicy.CONFLATE) {
+            if (!hasLatest.getAndSet(false)) {
+                return false;
+            }
+            deliver(Double.longBitsToDouble(latest.get()));
+            return true;
+        }
+        while (true) {
+            long h = head.get();
+            if (h == tail.get()) {
+                return false;
+            }
+            double price = ring[(int) h & mask];
+            if (head.compareAndSet(h, h + 1)) {
+                deliver(price);
+                return true;
+            }
+        }
+    }
+
+    private void deliver(double price) {
+        try {
+            observer.update(price);
+        } catch (RuntimeException e) {
+            System.out.println("Observer failed: " + e.getMessage());
+        }
+        delivered.incrementAndGet();
+    }
+
+    void close() {
+        running = false;
+        LockSupport.unpark(thread);
+    }
+
+    public long getDelivered() { return delivered.get(); }
+    public long getDropped() { return dropped.get(); }
+}
@@ -0,0 +1,16 @@
+package com.cognizant.handson.week1.patterns.observer;
+
+//Multi-Symbol Market
+//Prices live in a primitive table indexed by symbol id. Subscribers only keep a dirty bit per
+//symbol they follow and read the newest price when they get to it, so a slow subscriber sees
+//each changed symbol once per pass however often it moved.
+public interface SymbolObserver {
+    void update(int symbolId, double price);
+    
+    //Override to receive a whole pass at once; arrays are reused between calls
+    default void updateBatch(int[] symbolIds, double[] prices, int count) {
+        for (int i = 0; i < count; i++) {
+            update(symbolIds[i], prices[i]);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.cognizant.handson.week1.patterns.observer;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+public class SymbolSubscription implements Runnable {
+    private final MultiSymbolMarket market;
+    private final SymbolObserver observer;
+    private final long[] filter;
+    private final AtomicLongArray dirty;
+    private final AtomicBoolean signalled = new AtomicBoolean();
+    private final int[] batchIds;
+    private final double[] batchPrices;
+    private final long intervalMillis;
+    private final AtomicLong delivered = new AtomicLong();
+    private final AtomicLong conflated = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+    private volatile boolean running = true;
+    private final Thread thread;
+
+    SymbolSubscription(MultiSymbolMarket market, SymbolObserver observer, int[] symbolIds, int maxBatch, long intervalMillis) {
+        int words = (market.getMaxSymbols() + 63) >>> 6;
+        this.market = market;
+        this.observer = observer;
+        this.filter = new long[words];
+        this.dirty = new AtomicLongArray(words);
+        this.batchIds = new int[maxBatch];
+        this.batchPrices = new double[maxBatch];
+        this.intervalMillis = intervalMillis;
+        if (symbolIds == null) {
+            java.util.Arrays.fill(filter, -1L);
+        } else {
+            for (int id : symbolIds) {
+                filter[id >>> 6] |= 1L << id;
+            }
+        }
+        this.thread = new Thread(this, "symbol-subscriber");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    SymbolObserver getObserver() {
+        return observer;
+    }
+
+    void markDirty(int symbolId) {
+        int word = symbolId >>> 6;
+        long bit = 1L << symbolId;
+        if ((filter[word] & bit) == 0) {
+            return;
+        }
+        while (true) {
+            long current = dirty.get(word);
+            if ((current & bit) != 0) {
+                conflated.incrementAndGet();
+                return;
+            }
+            if (dirty.compareAndSet(word, current, current | bit)) {
+                break;
+            }
+        }
+        if (!signalled.getAndSet(true)) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    public void run() {
+        while (running) {
+            if (!signalled.getAndSet(false)) {
+                LockSupport.parkNanos(1_000_000);
+                continue;
+            }
+            drain();
+            if (intervalMillis > 0) {
+                LockSupport.parkNanos(intervalMillis * 1_000_000);
+            }
+        }
+    }
+
+    private void drain() {
+        int count = 0;
+        for (int word = 0; word < filter.length; word++) {
+            if (dirty.get(word) == 0) {
+                continue;
+            }
+            long bits = dirty.getAndSet(word, 0);
+            while (bits != 0) {
+                int symbolId = (word << 6) + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+                batchIds[count] = symbolId;
+                batchPrices[count] = market.getPrice(symbolId);
+                if (++count == batchIds.length) {
+                    deliver(count);
+                    count = 0;
+                }
+            }
+        }
+        if (count > 0) {
+            deliver(count);
+        }
+    }
+
+    private void deliver(int count) {
+        try {
+            observer.updateBatch(batchIds, batchPrices, count);
+        } catch (RuntimeException e) {
+            System.out.println("Observer failed: " + e.getMessage());
+        }
+        delivered.addAndGet(count);
+        batches.incrementAndGet();
+    }
+
+    void close() {
+        running = false;
+        LockSupport.unpark(thread);
+    }
+
+    public long getDelivered() { return delivered.get(); }
+    public long getConflated() { return conflated.get(); }
+    public long getBatches() { return batches.get(); }
+}
@@ -0,0 +1,7 @@
+package com.cognizant.handson.week1.patterns.observer;
+
+public class WebApp implements Observer {
+    public void update(double stockPrice) {
+        System.out.println("Web app notified. New stock price: $" + stockPrice);
+    }
+}
@@ -0,0 +1,6 @@
+package com.cognizant.handson.week1.patterns.proxy;
+
+//Exercise 6: Implementing the Proxy Pattern
+public interface Image {
+    void display();
+}
@@ -0,0 +1,196 @@
+package com.cognizant.handson.week1.patterns.proxy;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+//Shared Image Cache
+//LRU bounded by total image size, and concurrent misses for one file share a single load.
+//Image data is memory-mapped (see ImageLoader), so the byte budget bounds mapped memory
+//(address space and page cache) rather than heap; on the heap each entry is a small fixed cost.
+//An evicted image keeps its mapping for as long as it is reachable, so the soft references to
+//evicted images count against the same budget: the oldest are dropped once LRU plus soft bytes
+//exceed it, and their mappings go when the GC collects the buffers. References the GC cleared
+//on its own are pruned on the next get or put.
+public class ImageCache {
+    private static final ImageCache SHARED = new ImageCache(64L * 1024 * 1024);
+
+    private final long maxBytes;
+    private long usedBytes;
+    private long softBytes;
+    private final LinkedHashMap<String, RealImage> lru = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<String, SoftImage> evicted = new LinkedHashMap<>();
+    private final ReferenceQueue<RealImage> cleared = new ReferenceQueue<>();
+    private final ConcurrentHashMap<String, CompletableFuture<RealImage>> loading = new ConcurrentHashMap<>();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong softHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong loads = new AtomicLong();
+    private final AtomicLong loadNanos = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    //Soft reference that remembers its key and size, so a cleared one can be found and uncounted
+    private static final class SoftImage extends SoftReference<RealImage> {
+        final String fileName;
+        final long size;
+
+        SoftImage(String fileName, RealImage image, ReferenceQueue<RealImage> queue) {
+            super(image, queue);
+            this.fileName = fileName;
+            this.size = image.getSize();
+        }
+    }
+
+    public ImageCache(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    public static ImageCache getShared() {
+        return SHARED;
+    }
+
+    public RealImage get(String fileName) {
+        RealImage image = cached(fileName);
+        if (image != null) {
+            hits.incrementAndGet();
+            return image;
+        }
+        image = revive(fileName);
+        if (image != null) {
+            softHits.incrementAndGet();
+            return image;
+        }
+        return load(fileName);
+    }
+
+    //Moves an evicted image that the GC has not collected back into the LRU
+    private synchronized RealImage revive(String fileName) {
+        prune();
+        SoftImage ref = forget(fileName);
+        RealImage image = ref == null ? null : ref.get();
+        if (image != null) {
+            put(fileName, image);
+        }
+        return image;
+    }
+
+    private SoftImage forget(String fileName) {
+        SoftImage ref = evicted.remove(fileName);
+        if (ref != null) {
+            softBytes -= ref.size;
+        }
+        return ref;
+    }
+
+    private void prune() {
+        SoftImage ref;
+        while ((ref = (SoftImage) cleared.poll()) != null) {
+            if (evicted.remove(ref.fileName, ref)) {
+                softBytes -= ref.size;
+            }
+        }
+    }
+
+    private synchronized RealImage cached(String fileName) {
+        return lru.get(fileName);
+    }
+
+    public CompletableFuture<RealImage> prefetch(String fileName) {
+        CompletableFuture<RealImage> inFlight = loading.get(fileName);
+        if (inFlight != null) {
+            return inFlight;
+        }
+        return CompletableFuture.supplyAsync(() -> get(fileName), ImageLoader.getShared().getExecutor());
+    }
+
+    private RealImage load(String fileName) {
+        CompletableFuture<RealImage> future = new CompletableFuture<>();
+        CompletableFuture<RealImage> inFlight = loading.putIfAbsent(fileName, future);
+        if (inFlight != null) {
+            coalesced.incrementAndGet();
+            try {
+                return inFlight.join();
+            } catch (CompletionException e) {
+                //Waiters see the same exception as the thread that ran the load
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+            }
+        }
+        try {
+            //A load that finished between our cache check and putIfAbsent has already filled the cache
+            RealImage image = cached(fileName);
+            if (image != null) {
+                hits.incrementAndGet();
+                future.complete(image);
+                return image;
+            }
+            misses.incrementAndGet();
+            long start = System.nanoTime();
+            image = new RealImage(fileName);
+            loadNanos.addAndGet(System.nanoTime() - start);
+            loads.incrementAndGet();
+            put(fileName, image);
+            future.complete(image);
+            return image;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(fileName, future);
+        }
+    }
+
+    private synchronized void put(String fileName, RealImage image) {
+        prune();
+        forget(fileName);
+        RealImage previous = lru.put(fileName, image);
+        if (previous != null) {
+            usedBytes -= previous.getSize();
+        }
+        usedBytes += image.getSize();
+        Iterator<Map.Entry<String, RealImage>> eldest = lru.entrySet().iterator();
+        while (usedBytes > maxBytes && lru.size() > 1) {
+            Map.Entry<String, RealImage> entry = eldest.next();
+            usedBytes -= entry.getValue().getSize();
+            evicted.put(entry.getKey(), new SoftImage(entry.getKey(), entry.getValue(), cleared));
+            softBytes += entry.getValue().getSize();
+            eldest.remove();
+            evictions.incrementAndGet();
+        }
+        Iterator<SoftImage> oldest = evicted.values().iterator();
+        while (usedBytes + softBytes > maxBytes && oldest.hasNext()) {
+            SoftImage ref = oldest.next();
+            oldest.remove();
+            ref.clear();
+            softBytes -= ref.size;
+        }
+    }
+
+    public synchronized long getUsedBytes() { return usedBytes; }
+    public synchronized long getSoftBytes() { return softBytes; }
+    public long getHits() { return hits.get(); }
+    public long getSoftHits() { return softHits.get(); }
+    public long getMisses() { return misses.get(); }
+    public long getCoalesced() { return coalesced.get(); }
+    public long getLoads() { return loads.get(); }
+    public long getEvictions() { return evictions.get(); }
+
+    //Requests that waited on another thread's load count as served, since they caused no load
+    public double getHitRatio() {
+        long served = hits.get() + softHits.get() + coalesced.get();
+        long total = served + misses.get();
+        return total == 0 ? 0 : (double) served / total;
+    }
+
+    public double getAverageLoadMillis() {
+        long n = loads.get();
+        return n == 0 ? 0 : loadNanos.get() / 1e6 / n;
+    }
+}
@@ -0,0 +1,38 @@
+package com.cognizant.handson.week1.patterns.proxy;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+public class ImageCachePatternTest {
+    public static void main(String[] args) throws InterruptedException, IOException {
+        File file = File.createTempFile("hot_image", ".jpg");
+        file.deleteOnExit();
+        Files.write(file.toPath(), new byte[1024 * 1024]);
+        String hotImage = file.getPath();
+        ImageCache cache = new ImageCache(64L * 1024 * 1024);
+        Thread[] viewers = new Thread[8];
+        for (int i = 0; i < viewers.length; i++) {
+            viewers[i] = new Thread(() -> new ProxyImage(hotImage, cache).display());
+            viewers[i].start();
+        }
+        for (Thread viewer : viewers) {
+            viewer.join();
+        }
+        
+        // Loaded once even though eight proxies displayed it concurrently
+        System.out.println("Loads: " + cache.getLoads());
+        System.out.println("Hit ratio: " + cache.getHitRatio());
+        System.out.println("Average load ms: " + cache.getAverageLoadMillis());
+
+        // Evicted images still hold their mappings, so LRU plus soft bytes stay within the budget
+        ImageCache small = new ImageCache(3L * 1024 * 1024);
+        for (int i = 0; i < 6; i++) {
+            File image = File.createTempFile("image" + i, ".jpg");
+            image.deleteOnExit();
+            Files.write(image.toPath(), new byte[1024 * 1024]);
+            small.get(image.getPath());
+        }
+        System.out.println("LRU bytes: " + small.getUsedBytes() + ", soft bytes: " + small.getSoftBytes());
+    }
+}
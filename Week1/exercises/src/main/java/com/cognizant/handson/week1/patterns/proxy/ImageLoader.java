@@ -0,0 +1,82 @@
+package com.cognizant.handson.week1.patterns.proxy;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+//Image Loader
+//Files are mapped read-only through FileChannel, so the pixels are never copied onto the heap;
+//the pool is sized for disk parallelism rather than CPU count. read() is the plain stream
+//alternative, kept for comparison and counted separately.
+public class ImageLoader {
+    private static final ImageLoader SHARED = new ImageLoader(4);
+
+    private final ExecutorService executor;
+    private final AtomicLong bytesMapped = new AtomicLong();
+    private final AtomicLong bytesCopied = new AtomicLong();
+
+    public ImageLoader(int diskParallelism) {
+        this.executor = Executors.newFixedThreadPool(diskParallelism, task -> {
+            Thread thread = new Thread(task, "image-loader");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public static ImageLoader getShared() {
+        return SHARED;
+    }
+
+    public ExecutorService getExecutor() {
+        return executor;
+    }
+
+    public ByteBuffer map(String fileName) {
+        try (FileChannel channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, checkSize(fileName, channel.size()));
+            bytesMapped.addAndGet(buffer.capacity());
+            return buffer;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    //Copies the whole file onto the heap through an InputStream
+    public ByteBuffer read(String fileName) {
+        try (java.io.InputStream in = new java.io.FileInputStream(fileName)) {
+            byte[] data = new byte[(int) checkSize(fileName, new File(fileName).length())];
+            int offset = 0;
+            int n;
+            while (offset < data.length && (n = in.read(data, offset, data.length - offset)) > 0) {
+                offset += n;
+            }
+            bytesCopied.addAndGet(offset);
+            return ByteBuffer.wrap(data, 0, offset).slice();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    //A single ByteBuffer (mapped or heap) cannot address more than Integer.MAX_VALUE bytes
+    private static long checkSize(String fileName, long size) {
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Image too large to load (" + size + " bytes): " + fileName);
+        }
+        return size;
+    }
+
+    public long getBytesMapped() {
+        return bytesMapped.get();
+    }
+
+    public long getBytesCopied() {
+        return bytesCopied.get();
+    }
+}
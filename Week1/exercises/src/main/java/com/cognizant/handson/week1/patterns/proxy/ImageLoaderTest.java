@@ -0,0 +1,71 @@
+package com.cognizant.handson.week1.patterns.proxy;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+
+//Compares display through the mapped loader with a plain stream read of the same file. Both paths
+//are warmed up first and then alternate, so neither one always runs on a colder JIT or page cache.
+public class ImageLoaderTest {
+    static long touch(ByteBuffer data) {
+        long sum = 0;
+        while (data.hasRemaining()) {
+            sum += data.get();
+        }
+        return sum;
+    }
+    
+    public static void main(String[] args) throws Exception {
+        File file = File.createTempFile("image", ".jpg");
+        file.deleteOnExit();
+        byte[] pixels = new byte[16 * 1024 * 1024];
+        java.util.Arrays.fill(pixels, (byte) 7);
+        java.nio.file.Files.write(file.toPath(), pixels);
+        String path = file.getPath();
+        ImageLoader loader = new ImageLoader(1);
+        
+        for (int i = 0; i < 5; i++) {
+            touch(loader.read(path));
+            touch(loader.map(path));
+        }
+        long copiedBefore = loader.getBytesCopied();
+        long mappedBefore = loader.getBytesMapped();
+        
+        int rounds = 10;
+        long streamNanos = 0;
+        long mappedNanos = 0;
+        long streamSum = 0;
+        long mappedSum = 0;
+        for (int round = 0; round < rounds; round++) {
+            for (int step = 0; step < 2; step++) {
+                boolean stream = (round + step) % 2 == 0;
+                long start = System.nanoTime();
+                long sum = touch(stream ? loader.read(path) : loader.map(path));
+                long nanos = System.nanoTime() - start;
+                if (stream) {
+                    streamNanos += nanos;
+                    streamSum = sum;
+                } else {
+                    mappedNanos += nanos;
+                    mappedSum = sum;
+                }
+            }
+        }
+        
+        System.out.println("Stream read: " + streamNanos / rounds / 1000 + " us per image, bytes copied "
+                + (loader.getBytesCopied() - copiedBefore) / rounds + ", sum " + streamSum);
+        System.out.println("Mapped read: " + mappedNanos / rounds / 1000 + " us per image, bytes mapped "
+                + (loader.getBytesMapped() - mappedBefore) / rounds + ", bytes copied 0 (map() never copies), sum " + mappedSum);
+        
+        // Prefetched image is already cached when the proxy displays it
+        File next = File.createTempFile("next_image", ".jpg");
+        next.deleteOnExit();
+        java.nio.file.Files.write(next.toPath(), pixels);
+        ImageCache cache = new ImageCache(64L * 1024 * 1024);
+        ProxyImage current = new ProxyImage(path, cache);
+        current.display();
+        current.prefetch(next.getPath());
+        cache.prefetch(next.getPath()).join();
+        new ProxyImage(next.getPath(), cache).display();
+        System.out.println("Loads: " + cache.getLoads() + ", hits: " + cache.getHits());
+    }
+}
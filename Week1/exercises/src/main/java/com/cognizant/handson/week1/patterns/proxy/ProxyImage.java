@@ -0,0 +1,25 @@
+package com.cognizant.handson.week1.patterns.proxy;
+
+//The proxy no longer keeps its own copy; all proxies share one bounded cache
+public class ProxyImage implements Image {
+    private ImageCache cache;
+    private String fileName;
+    
+    public ProxyImage(String fileName) {
+        this(fileName, ImageCache.getShared());
+    }
+    
+    public ProxyImage(String fileName, ImageCache cache) {
+        this.fileName = fileName;
+        this.cache = cache;
+    }
+    
+    public void display() {
+        cache.get(fileName).display();
+    }
+    
+    //Start loading an image the user is likely to open next
+    public void prefetch(String nextFileName) {
+        cache.prefetch(nextFileName);
+    }
+}
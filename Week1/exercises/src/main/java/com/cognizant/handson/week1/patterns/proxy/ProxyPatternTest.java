@@ -0,0 +1,20 @@
+package com.cognizant.handson.week1.patterns.proxy;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+public class ProxyPatternTest {
+    public static void main(String[] args) throws IOException {
+        File file = File.createTempFile("test_image", ".jpg");
+        file.deleteOnExit();
+        Files.write(file.toPath(), new byte[1024]);
+        Image image = new ProxyImage(file.getPath());
+        
+        // Image will be loaded from disk
+        image.display();
+        
+        // Image will not be loaded from disk, as it is already loaded
+        image.display();
+    }
+}
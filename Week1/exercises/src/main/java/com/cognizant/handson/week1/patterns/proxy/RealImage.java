@@ -0,0 +1,30 @@
+package com.cognizant.handson.week1.patterns.proxy;
+
+import java.nio.ByteBuffer;
+
+public class RealImage implements Image {
+    private String fileName;
+    private ByteBuffer data;
+    
+    public RealImage(String fileName) {
+        this.fileName = fileName;
+        loadFromDisk();
+    }
+    
+    private void loadFromDisk() {
+        System.out.println("Loading " + fileName);
+        data = ImageLoader.getShared().map(fileName);
+    }
+    
+    public void display() {
+        System.out.println("Displaying " + fileName);
+    }
+    
+    public long getSize() {
+        return Math.max(1, data.capacity());
+    }
+    
+    public ByteBuffer getData() {
+        return data.duplicate();
+    }
+}
@@ -0,0 +1,23 @@
+package com.cognizant.handson.week1.patterns.singleton;
+
+//Exercise 1: Implementing the Singleton Pattern
+//SingletonPatternExample
+//Define a Singleton Class
+public class Logger {
+    private static Logger instance;
+    
+    private Logger() {
+        // private constructor to prevent instantiation
+    }
+    
+    public static Logger getInstance() {
+        if (instance == null) {
+            instance = new Logger();
+        }
+        return instance;
+    }
+    
+    public void log(String message) {
+        System.out.println("Log: " + message);
+    }
+}
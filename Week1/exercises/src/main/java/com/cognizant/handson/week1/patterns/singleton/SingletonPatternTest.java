@@ -0,0 +1,19 @@
+package com.cognizant.handson.week1.patterns.singleton;
+
+//Test the Singleton Implementation
+public class SingletonPatternTest {
+    public static void main(String[] args) {
+        Logger logger1 = Logger.getInstance();
+        Logger logger2 = Logger.getInstance();
+        
+        logger1.log("This is the first log message.");
+        logger2.log("This is the second log message.");
+        
+        System.out.println(logger1 == logger2); // should print true
+    }
+}
+
+//Analysis:
+
+//Time Complexity: O(n) - Where n is the number of years; each recursive call reduces the problem size by one.
+//Optimization: Use memoization or iterative solutions to avoid excessive computation and improve efficiency.
@@ -0,0 +1,13 @@
+package com.cognizant.handson.week1.patterns.strategy;
+
+public final class PayPalPayment implements PaymentStrategy {
+    public void pay(double amount) {
+        System.out.println("Paid $" + amount + " using PayPal.");
+    }
+    
+    public void payBatch(double[] amounts, int from, int to) {
+        for (int i = from; i < to; i++) {
+            pay(amounts[i]);
+        }
+    }
+}
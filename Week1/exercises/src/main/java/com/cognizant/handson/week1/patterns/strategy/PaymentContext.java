@@ -0,0 +1,22 @@
+package com.cognizant.handson.week1.patterns.strategy;
+
+//Safe to share: the strategy is volatile, so a pay that races setPaymentStrategy uses either the
+//old or the new strategy. Callers that pick a strategy per payment should share a PaymentRouter.
+public class PaymentContext {
+    private volatile PaymentStrategy paymentStrategy;
+    
+    public PaymentContext() {
+    }
+    
+    public PaymentContext(PaymentStrategy paymentStrategy) {
+        this.paymentStrategy = paymentStrategy;
+    }
+    
+    public void setPaymentStrategy(PaymentStrategy paymentStrategy) {
+        this.paymentStrategy = paymentStrategy;
+    }
+    
+    public void pay(double amount) {
+        paymentStrategy.pay(amount);
+    }
+}
@@ -0,0 +1,80 @@
+package com.cognizant.handson.week1.patterns.strategy;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+//Payment Router
+//Immutable once built: strategy keys are resolved to array slots up front, so the router can be
+//shared across threads and each call is an array load instead of a mutable field swap.
+public final class PaymentRouter {
+    private final PaymentStrategy[] table;
+    private final Map<String, Integer> ids;
+
+    private PaymentRouter(Builder builder) {
+        this.table = builder.strategies.toArray(new PaymentStrategy[0]);
+        this.ids = new HashMap<>(builder.ids);
+    }
+
+    public int strategyId(String key) {
+        Integer id = ids.get(key);
+        if (id == null) {
+            throw new IllegalArgumentException("Unknown payment strategy: " + key);
+        }
+        return id;
+    }
+
+    public int size() {
+        return table.length;
+    }
+
+    public void pay(String key, double amount) {
+        table[strategyId(key)].pay(amount);
+    }
+
+    public void pay(int strategyId, double amount) {
+        table[strategyId].pay(amount);
+    }
+
+    //Groups amounts by strategy (counting sort) and hands each group over in one payBatch call
+    public void payAll(int[] strategyIds, double[] amounts) {
+        if (strategyIds.length != amounts.length) {
+            throw new IllegalArgumentException("Got " + strategyIds.length + " strategy ids for " + amounts.length + " amounts");
+        }
+        int[] start = new int[table.length + 1];
+        for (int id : strategyIds) {
+            start[id + 1]++;
+        }
+        for (int i = 0; i < table.length; i++) {
+            start[i + 1] += start[i];
+        }
+        int[] next = java.util.Arrays.copyOf(start, table.length);
+        double[] grouped = new double[amounts.length];
+        for (int i = 0; i < strategyIds.length; i++) {
+            grouped[next[strategyIds[i]]++] = amounts[i];
+        }
+        for (int i = 0; i < table.length; i++) {
+            if (start[i] < start[i + 1]) {
+                table[i].payBatch(grouped, start[i], start[i + 1]);
+            }
+        }
+    }
+
+    public static class Builder {
+        private final List<PaymentStrategy> strategies = new ArrayList<>();
+        private final Map<String, Integer> ids = new HashMap<>();
+
+        public Builder register(String key, PaymentStrategy strategy) {
+            if (ids.putIfAbsent(key, strategies.size()) != null) {
+                throw new IllegalArgumentException("Duplicate payment strategy: " + key);
+            }
+            strategies.add(strategy);
+            return this;
+        }
+
+        public PaymentRouter build() {
+            return new PaymentRouter(this);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.cognizant.handson.week1.patterns.strategy;
+
+public class PaymentRouterTest {
+    public static void main(String[] args) {
+        PaymentRouter router = new PaymentRouter.Builder()
+            .register("card", new CreditCardPayment())
+            .register("paypal", new PayPalPayment())
+            .build();
+        
+        router.pay("card", 100.0);
+        router.pay("paypal", 200.0);
+        
+        int card = router.strategyId("card");
+        int paypal = router.strategyId("paypal");
+        router.payAll(new int[] { card, paypal, card, paypal }, new double[] { 10.0, 20.0, 30.0, 40.0 });
+    }
+}
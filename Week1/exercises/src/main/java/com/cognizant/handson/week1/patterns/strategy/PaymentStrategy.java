@@ -0,0 +1,13 @@
+package com.cognizant.handson.week1.patterns.strategy;
+
+//Exercise 8: Implementing the Strategy Pattern
+public interface PaymentStrategy {
+    void pay(double amount);
+    
+    //Pays amounts[from..to); strategies override it so the loop calls their own pay directly
+    default void payBatch(double[] amounts, int from, int to) {
+        for (int i = from; i < to; i++) {
+            pay(amounts[i]);
+        }
+    }
+}
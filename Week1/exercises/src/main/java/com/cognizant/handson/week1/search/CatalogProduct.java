@@ -0,0 +1,21 @@
+package com.cognizant.handson.week1.search;
+
+//EXERCISE 2
+//E-commerce Platform Search Function
+//class CatalogProduct (named apart from the inventory Product above)
+public class CatalogProduct {
+    private int productId;
+    private String productName;
+    private String category;
+
+    // Constructor and getters/setters
+    public CatalogProduct(int productId, String productName, String category) {
+        this.productId = productId;
+        this.productName = productName;
+        this.category = category;
+    }
+
+    public int getProductId() { return productId; }
+    public String getProductName() { return productName; }
+    public String getCategory() { return category; }
+}
@@ -0,0 +1,28 @@
+package com.cognizant.handson.week1.search;
+
+// Linear Search:
+public class ProductSearch {
+    public CatalogProduct linearSearch(CatalogProduct[] products, String searchTerm) {
+        for (CatalogProduct product : products) {
+            if (product.getProductName().equals(searchTerm)) {
+                return product;
+            }
+        }
+        return null; // Not found
+    }
+    //Binary Search:
+    public CatalogProduct binarySearch(CatalogProduct[] products, String searchTerm) {
+        int left = 0, right = products.length - 1;
+        while (left <= right) {
+            int mid = left + (right - left) / 2;
+            if (products[mid].getProductName().compareTo(searchTerm) == 0) {
+                return products[mid];
+            } else if (products[mid].getProductName().compareTo(searchTerm) < 0) {
+                left = mid + 1;
+            } else {
+                right = mid - 1;
+            }
+        }
+        return null; // Not found
+    }
+}
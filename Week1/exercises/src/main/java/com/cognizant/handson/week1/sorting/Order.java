@@ -0,0 +1,19 @@
+package com.cognizant.handson.week1.sorting;
+
+//EXERCISE 3
+//Sorting Customer Orders
+//Order
+public class Order {
+    private int orderId;
+    private String customerName;
+    private double totalPrice;
+
+    // Constructor and getters/setters
+    public Order(int orderId, String customerName, double totalPrice) {
+        this.orderId = orderId;
+        this.customerName = customerName;
+        this.totalPrice = totalPrice;
+    }
+
+    public double getTotalPrice() { return totalPrice; }
+}
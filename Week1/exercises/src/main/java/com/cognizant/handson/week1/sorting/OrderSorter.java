@@ -0,0 +1,46 @@
+package com.cognizant.handson.week1.sorting;
+
+//Bubble Sort:
+public class OrderSorter {
+    public void bubbleSort(Order[] orders) {
+        int n = orders.length;
+        for (int i = 0; i < n - 1; i++) {
+            for (int j = 0; j < n - i - 1; j++) {
+                if (orders[j].getTotalPrice() > orders[j + 1].getTotalPrice()) {
+                    Order temp = orders[j];
+                    orders[j] = orders[j + 1];
+                    orders[j + 1] = temp;
+                }
+            }
+        }
+    }
+    //QUICK SORT:
+    public void quickSort(Order[] orders, int low, int high) {
+        if (low < high) {
+            int pi = partition(orders, low, high);
+            quickSort(orders, low, pi - 1);
+            quickSort(orders, pi + 1, high);
+        }
+    }
+
+    private int partition(Order[] orders, int low, int high) {
+        double pivot = orders[high].getTotalPrice();
+        int i = (low - 1);
+        for (int j = low; j < high; j++) {
+            if (orders[j].getTotalPrice() <= pivot) {
+                i++;
+                Order temp = orders[i];
+                orders[i] = orders[j];
+                orders[j] = temp;
+            }
+        }
+        Order temp = orders[i + 1];
+        orders[i + 1] = orders[high];
+        orders[high] = temp;
+        return i + 1;
+    }
+}
+
+//ANALYSIS
+//Bubble Sort Time Complexity: O(n^2) - Inefficient for large datasets.
+//Quick Sort Time Complexity: O(n log n) - Generally faster and more efficient for large datasets.
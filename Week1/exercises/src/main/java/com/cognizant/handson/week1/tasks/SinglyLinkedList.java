@@ -0,0 +1,63 @@
+package com.cognizant.handson.week1.tasks;
+
+//Singly Linked List:
+public class SinglyLinkedList {
+    private Node head;
+
+    private class Node {
+        Task task;
+        Node next;
+
+        Node(Task task) {
+            this.task = task;
+            this.next = null;
+        }
+    }
+
+    public void addTask(Task task) {
+        Node newNode = new Node(task);
+        if (head == null) {
+            head = newNode;
+        } else {
+            Node current = head;
+            while (current.next != null) {
+                current = current.next;
+            }
+            current.next = newNode;
+        }
+    }
+
+    public Task searchTask(int taskId) {
+        Node current = head;
+        while (current != null) {
+            if (current.task.getTaskId() == taskId) {
+                return current.task;
+            }
+            current = current.next;
+        }
+        return null; // Not found
+    }
+
+    public void traverseTasks() {
+        Node current = head;
+        while (current != null) {
+            System.out.println(current.task.getTaskName());
+            current = current.next;
+        }
+    }
+
+    public void deleteTask(int taskId) {
+        Node current = head, prev = null;
+        while (current != null && current.task.getTaskId() != taskId) {
+            prev = current;
+            current = current.next;
+        }
+        if (current != null) {
+            if (prev != null) {
+                prev.next = current.next;
+            } else {
+                head = current.next;
+            }
+        }
+    }
+}
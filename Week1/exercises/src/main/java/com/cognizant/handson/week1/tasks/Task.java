@@ -0,0 +1,20 @@
+package com.cognizant.handson.week1.tasks;
+
+//Exercise 5: Task Management System
+//Class Task
+public class Task {
+    private int taskId;
+    private String taskName;
+    private String status;
+
+    // Constructor and getters/setters
+    public Task(int taskId, String taskName, String status) {
+        this.taskId = taskId;
+        this.taskName = taskName;
+        this.status = status;
+    }
+
+    public int getTaskId() { return taskId; }
+    public String getTaskName() { return taskName; }
+    public String getStatus() { return status; }
+}
@@ -0,0 +1,17 @@
+package com.cognizant.handson.week1.inject;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+//Compile-time Dependency Injection
+//Marks a class as a singleton in its package's generated Components class. The class needs a
+//single constructor; each parameter is filled with the component bound to that type in the
+//same package. Only ComponentProcessor reads it, so nothing is left for reflection at runtime.
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface Component {
+    //Type the component is looked up by and exposed as; defaults to the class itself
+    Class<?> bind() default Void.class;
+}
@@ -0,0 +1,178 @@
+package com.cognizant.handson.week1.inject;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+
+//Generates one Components class per package from its @Component classes. Every binding becomes
+//a field and a synchronized accessor that builds it on first use, so the generated wiring loads
+//no classes beyond the components themselves.
+//  javac -processorpath inject.jar -processor com.cognizant.handson.week1.inject.ComponentProcessor ...
+@SupportedAnnotationTypes("com.cognizant.handson.week1.inject.Component")
+public class ComponentProcessor extends AbstractProcessor {
+    private static final String COMPONENT = Component.class.getCanonicalName();
+
+    private static final class Binding {
+        final TypeElement type;
+        final String key;
+        final String name;
+        final List<String> dependencies = new ArrayList<>();
+
+        Binding(TypeElement type, String key) {
+            this.type = type;
+            this.key = key;
+            String simple = key.substring(key.lastIndexOf('.') + 1);
+            this.name = Character.toLowerCase(simple.charAt(0)) + simple.substring(1);
+        }
+    }
+
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Map<String, Map<String, Binding>> packages = new LinkedHashMap<>();
+        for (Element element : roundEnv.getElementsAnnotatedWith(Component.class)) {
+            if (element.getKind() != ElementKind.CLASS || element.getModifiers().contains(Modifier.ABSTRACT)) {
+                error(element, "@Component must be on a concrete class");
+                continue;
+            }
+            TypeElement type = (TypeElement) element;
+            Binding binding = new Binding(type, boundType(type));
+            String pkg = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+            if (packages.computeIfAbsent(pkg, p -> new LinkedHashMap<>()).putIfAbsent(binding.key, binding) != null) {
+                error(type, "Another @Component is already bound to " + binding.key);
+            }
+        }
+        for (Map.Entry<String, Map<String, Binding>> entry : packages.entrySet()) {
+            if (resolve(entry.getValue())) {
+                write(entry.getKey(), entry.getValue());
+            }
+        }
+        return true;
+    }
+
+    //The bind() type if one was given, otherwise the class itself
+    private String boundType(TypeElement type) {
+        for (AnnotationMirror mirror : type.getAnnotationMirrors()) {
+            if (!mirror.getAnnotationType().toString().equals(COMPONENT)) {
+                continue;
+            }
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> value : mirror.getElementValues().entrySet()) {
+                if (value.getKey().getSimpleName().contentEquals("bind")) {
+                    TypeMirror bound = (TypeMirror) value.getValue().getValue();
+                    if (!processingEnv.getTypeUtils().isAssignable(type.asType(), bound)) {
+                        error(type, type.getSimpleName() + " is not a " + bound);
+                    }
+                    return bound.toString();
+                }
+            }
+        }
+        return type.getQualifiedName().toString();
+    }
+
+    //Fills in each binding's constructor dependencies; false if any is missing or cyclic
+    private boolean resolve(Map<String, Binding> bindings) {
+        boolean ok = true;
+        for (Binding binding : bindings.values()) {
+            List<ExecutableElement> constructors = ElementFilter.constructorsIn(binding.type.getEnclosedElements());
+            if (constructors.size() != 1 || constructors.get(0).getModifiers().contains(Modifier.PRIVATE)) {
+                error(binding.type, "@Component needs exactly one non-private constructor");
+                ok = false;
+                continue;
+            }
+            for (VariableElement parameter : constructors.get(0).getParameters()) {
+                String key = processingEnv.getTypeUtils().erasure(parameter.asType()).toString();
+                if (!bindings.containsKey(key)) {
+                    error(parameter, "No @Component in this package is bound to " + key);
+                    ok = false;
+                }
+                binding.dependencies.add(key);
+            }
+        }
+        if (ok) {
+            Set<String> done = new HashSet<>();
+            for (Binding binding : bindings.values()) {
+                ok &= acyclic(binding, bindings, done, new HashSet<>());
+            }
+        }
+        return ok;
+    }
+
+    private boolean acyclic(Binding binding, Map<String, Binding> bindings, Set<String> done, Set<String> path) {
+        if (done.contains(binding.key)) {
+            return true;
+        }
+        if (!path.add(binding.key)) {
+            error(binding.type, "Dependency cycle through " + binding.key);
+            return false;
+        }
+        for (String dependency : binding.dependencies) {
+            if (!acyclic(bindings.get(dependency), bindings, done, path)) {
+                return false;
+            }
+        }
+        path.remove(binding.key);
+        done.add(binding.key);
+        return true;
+    }
+
+    private void write(String pkg, Map<String, Binding> bindings) {
+        StringBuilder java = new StringBuilder();
+        if (!pkg.isEmpty()) {
+            java.append("package ").append(pkg).append(";\n\n");
+        }
+        java.append("@javax.annotation.processing.Generated(\"").append(getClass().getName()).append("\")\n");
+        java.append("public final class Components {\n");
+        for (Binding binding : bindings.values()) {
+            java.append("    private ").append(binding.key).append(' ').append(binding.name).append(";\n");
+        }
+        for (Binding binding : bindings.values()) {
+            java.append('\n');
+            java.append("    public synchronized ").append(binding.key).append(' ').append(binding.name).append("() {\n");
+            java.append("        if (").append(binding.name).append(" == null) {\n");
+            java.append("            ").append(binding.name).append(" = new ").append(binding.type.getQualifiedName()).append('(');
+            for (int i = 0; i < binding.dependencies.size(); i++) {
+                java.append(i == 0 ? "" : ", ").append(bindings.get(binding.dependencies.get(i)).name).append("()");
+            }
+            java.append(");\n");
+            java.append("        }\n");
+            java.append("        return ").append(binding.name).append(";\n");
+            java.append("    }\n");
+        }
+        java.append("}\n");
+
+        Element[] origins = bindings.values().stream().map(b -> b.type).toArray(Element[]::new);
+        String name = pkg.isEmpty() ? "Components" : pkg + ".Components";
+        try (Writer writer = processingEnv.getFiler().createSourceFile(name, origins).openWriter()) {
+            writer.write(java.toString());
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Cannot write " + name + ": " + e.getMessage());
+        }
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+}